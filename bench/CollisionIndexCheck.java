@@ -0,0 +1,153 @@
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CollisionIndexCheck {
+
+    // ========================================
+    // GRID vs BRUTE FORCE
+    // ========================================
+
+    // Compares Collision.checkCollision / getCollision (tile bitmap + uniform grid) against a plain
+    // scan of every tile and obstacle, on seeded random worlds. Obstacles are snapped near the 256px
+    // cell borders (and past the world edges) so most of them straddle several cells.
+    // Runs as part of `gradle check`; exits with status 1 on the first mismatch.
+    //   gradle collisionCheck [-Pcheck.seed=N]
+
+    private static final int CELL_SIZE = 256;     // Collision.cellSize
+    private static final int WORLDS = 40;
+    private static final int QUERIES_PER_WORLD = 5000;
+
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 20240501L;
+        Random random = new Random(seed);
+        long queries = 0;
+
+        for (int w = 0; w < WORLDS; w++) {
+            int worldSize = CELL_SIZE * (2 + random.nextInt(14));
+            boolean tiles = random.nextBoolean();
+            int tileSize = 64;
+            int tileCols = tiles ? worldSize / tileSize : 0;
+            int tileRows = tiles ? worldSize / tileSize : 0;
+            boolean[] solid = new boolean[tileCols * tileRows];
+
+            Collision collision = new Collision();
+            if (tiles) {
+                loadTiles(collision, random, solid, tileCols, tileRows);
+            }
+
+            List<Rectangle> obstacles = new ArrayList<>();
+            int obstacleCount = random.nextInt(300);
+            for (int i = 0; i < obstacleCount; i++) {
+                Rectangle obs = randomObstacle(random, worldSize);
+                obstacles.add(obs);
+                collision.addObstacle(obs.x, obs.y, obs.width, obs.height);
+            }
+
+            for (int q = 0; q < QUERIES_PER_WORLD; q++) {
+                Rectangle query = randomQuery(random, worldSize);
+
+                Rectangle expected = bruteForce(query, obstacles, solid, tileCols, tileRows, tileSize);
+                boolean hit = collision.checkCollision(query);
+                Rectangle found = collision.getCollision(query);
+                queries++;
+
+                if (hit != (expected != null) || !same(found, expected)) {
+                    System.err.printf("Mismatch (seed %d, world %d, query %d): %s%n  checkCollision=%b getCollision=%s expected=%s%n",
+                        seed, w, q, query, hit, found, expected);
+                    System.exit(1);
+                }
+
+                // The result is the caller's own copy
+                if (found != null) {
+                    found.translate(1_000_000, 1_000_000);
+                    if (!same(collision.getCollision(query), expected)) {
+                        System.err.printf("getCollision result shares state with the index (seed %d, world %d)%n", seed, w);
+                        System.exit(1);
+                    }
+                }
+            }
+        }
+        System.out.printf("Collision index matches brute force: %d worlds, %d queries (seed %d)%n", WORLDS, queries, seed);
+    }
+
+    // ========================================
+    // REFERENCE
+    // ========================================
+
+    // Solid tiles first (row-major), then the first obstacle in insertion order, like getCollision
+    private static Rectangle bruteForce(Rectangle query, List<Rectangle> obstacles,
+                                        boolean[] solid, int tileCols, int tileRows, int tileSize) {
+        if (query.width <= 0 || query.height <= 0) return null;
+
+        for (int row = 0; row < tileRows; row++) {
+            for (int col = 0; col < tileCols; col++) {
+                if (!solid[row * tileCols + col]) continue;
+                Rectangle tile = new Rectangle(col * tileSize, row * tileSize, tileSize, tileSize);
+                if (query.intersects(tile)) return tile;
+            }
+        }
+        for (Rectangle obs : obstacles) {
+            if (query.intersects(obs)) return obs;
+        }
+        return null;
+    }
+
+    private static boolean same(Rectangle a, Rectangle b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    // ========================================
+    // RANDOM INPUTS
+    // ========================================
+
+    // About 1 solid tile in 25, loaded through the CSV path the game uses
+    private static void loadTiles(Collision collision, Random random, boolean[] solid, int cols, int rows) throws IOException {
+        File csv = File.createTempFile("collision-check", ".csv");
+        csv.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(csv)) {
+            for (int row = 0; row < rows; row++) {
+                StringBuilder line = new StringBuilder();
+                for (int col = 0; col < cols; col++) {
+                    boolean isSolid = random.nextInt(25) == 0;
+                    solid[row * cols + col] = isSolid;
+                    if (col > 0) line.append(',');
+                    line.append(isSolid ? '1' : '0');
+                }
+                out.println(line);
+            }
+        }
+        collision.loadFromFile(csv.getPath());
+    }
+
+    // Mostly boxes starting within a few pixels of a cell border, some spanning many cells,
+    // some partly outside the world, and the odd empty one
+    private static Rectangle randomObstacle(Random random, int worldSize) {
+        int x = nearBorder(random, worldSize);
+        int y = nearBorder(random, worldSize);
+        int width;
+        int height;
+        switch (random.nextInt(10)) {
+            case 0 -> { width = 0; height = random.nextInt(50); }
+            case 1, 2 -> { width = 1 + random.nextInt(CELL_SIZE * 3); height = 1 + random.nextInt(CELL_SIZE * 3); }
+            default -> { width = 1 + random.nextInt(120); height = 1 + random.nextInt(120); }
+        }
+        return new Rectangle(x, y, width, height);
+    }
+
+    private static Rectangle randomQuery(Random random, int worldSize) {
+        int x = random.nextInt(4) == 0 ? nearBorder(random, worldSize) : random.nextInt(worldSize + 400) - 200;
+        int y = random.nextInt(4) == 0 ? nearBorder(random, worldSize) : random.nextInt(worldSize + 400) - 200;
+        return new Rectangle(x, y, random.nextInt(200), random.nextInt(200));
+    }
+
+    // A cell border (including ones just outside the world) plus or minus a few pixels
+    private static int nearBorder(Random random, int worldSize) {
+        int borders = worldSize / CELL_SIZE;
+        return (random.nextInt(borders + 3) - 1) * CELL_SIZE + random.nextInt(9) - 4;
+    }
+}
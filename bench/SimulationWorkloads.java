@@ -0,0 +1,198 @@
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+public class SimulationWorkloads {
+
+    // ========================================
+    // WORKLOADS (simulation hot paths)
+    // ========================================
+
+    // Each method builds its inputs once and returns one benchmark operation. The JMH benchmarks in
+    // jmh/SimulationBenchmarks.java call these (JMH needs a named package, and a named package cannot
+    // see the game's classes directly) and feed every result to a Blackhole.
+
+    // Pre-generated queries are cycled through so the JIT cannot specialize on one input
+    private static final int QUERY_COUNT = 1024;
+
+    // ========================================
+    // COLLISION
+    // ========================================
+
+    public static LongSupplier checkCollision(int worldSize, int obstacles) throws IOException {
+        Collision collision = buildCollision(worldSize, obstacles, 1);
+        Random random = new Random(1);
+        Rectangle[] boxes = new Rectangle[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            boxes[i] = new Rectangle(random.nextInt(worldSize - 40), random.nextInt(worldSize - 60), 40, 60);
+        }
+
+        int[] next = { 0 };
+        return () -> {
+            Rectangle box = boxes[next[0]++ & (QUERY_COUNT - 1)];
+            return collision.checkCollision(box) ? 1 : 0;
+        };
+    }
+
+    // Segments up to 300px long (a typical sight range), the way the perception pass casts them
+    public static LongSupplier hasLineOfSight(int worldSize, int obstacles) throws IOException {
+        Collision collision = buildCollision(worldSize, obstacles, 1);
+        Random random = new Random(2);
+        int[] segments = new int[QUERY_COUNT * 4];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            int x1 = 300 + random.nextInt(worldSize - 600);
+            int y1 = 300 + random.nextInt(worldSize - 600);
+            segments[i * 4] = x1;
+            segments[i * 4 + 1] = y1;
+            segments[i * 4 + 2] = x1 + random.nextInt(601) - 300;
+            segments[i * 4 + 3] = y1 + random.nextInt(601) - 300;
+        }
+
+        int[] next = { 0 };
+        return () -> {
+            int i = (next[0]++ & (QUERY_COUNT - 1)) * 4;
+            return collision.hasLineOfSight(segments[i], segments[i + 1], segments[i + 2], segments[i + 3]) ? 1 : 0;
+        };
+    }
+
+    // ========================================
+    // ENEMY
+    // ========================================
+
+    // Patrolling enemy that never sees the player: AI state machine plus moveWithCollision every tick
+    public static LongSupplier enemyPatrol() throws IOException {
+        SpriteCache.setEnabled(false);
+        Collision collision = buildCollision(2048, 100, 3);
+        Enemy enemy = EnemyFactory.createBandit(1000, 1000);
+        enemy.setPatrolArea(900, 900, 300, 200);
+        Player player = new Player(100, 100);
+        GameClock clock = new GameClock(60);
+        ScreenShake shake = new ScreenShake();
+        ProjectileSystem projectiles = new ProjectileSystem();
+
+        return () -> {
+            clock.advance();
+            enemy.update(collision, player.getcraneBodyHitbox(), player, shake, projectiles, clock);
+            return enemy.getX();
+        };
+    }
+
+    // Enemy forced into sight of a target kept 2000px ahead, so it chases (and moves) on every tick
+    public static LongSupplier enemyChase() throws IOException {
+        SpriteCache.setEnabled(false);
+        Collision collision = new Collision();
+        Enemy enemy = EnemyFactory.createBandit(1000, 1000);
+        Player player = new Player(100, 100);
+        Rectangle target = new Rectangle(0, 0, 40, 60);
+        GameClock clock = new GameClock(60);
+        ScreenShake shake = new ScreenShake();
+        ProjectileSystem projectiles = new ProjectileSystem();
+
+        return () -> {
+            clock.advance();
+            target.setLocation(enemy.getX() + 2000, enemy.getY());
+            enemy.setPlayerInSight(true);
+            enemy.update(collision, target, player, shake, projectiles, clock);
+            return enemy.getX();
+        };
+    }
+
+    // Full-length trail (15 crumbs, as kept by Player) starting next to the enemy
+    public static LongSupplier breadcrumbs() throws IOException {
+        SpriteCache.setEnabled(false);
+        Enemy enemy = EnemyFactory.createBandit(1000, 1000);
+        List<Point> trail = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            trail.add(new Point(1100 + i * 30, 1100));
+        }
+
+        return () -> {
+            enemy.setBreadcrumbTrail(trail);
+            return trail.size();
+        };
+    }
+
+    // ========================================
+    // PROJECTILES
+    // ========================================
+
+    // Keeps `count` projectiles alive among 100 enemies; dead ones are respawned after each update
+    public static LongSupplier projectiles(int count) throws IOException {
+        SpriteCache.setEnabled(false);
+        Collision collision = buildCollision(4096, 100, 4);
+        Player player = new Player(2048, 2048);
+        ScreenShake shake = new ScreenShake();
+        ProjectileSystem projectiles = new ProjectileSystem();
+        Random random = new Random(5);
+
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            enemies.add(EnemyFactory.createDummy(random.nextInt(4000), random.nextInt(4000)));
+        }
+        EnemyGrid grid = new EnemyGrid(4096, 4096, 256);
+        grid.rebuild(enemies);
+
+        return () -> {
+            projectiles.update(collision, player, grid, shake);
+            while (projectiles.getCount() < count) {
+                int owner = random.nextInt(4) == 0 ? ProjectileSystem.ENEMY : ProjectileSystem.PLAYER;
+                projectiles.spawn(owner, random.nextInt(4096), random.nextInt(4096),
+                    random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, 10, 600, 0);
+            }
+            return projectiles.getCount();
+        };
+    }
+
+    // ========================================
+    // FULL TICK
+    // ========================================
+
+    public static LongSupplier tick(int enemyCount) {
+        SpriteCache.setEnabled(false);
+        GameWorld world = new GameWorld(60, false);
+        HeadlessRunner.spawnEnemies(world, enemyCount, 42);
+        KeyHandler noInput = new KeyHandler();
+
+        return () -> {
+            world.update(noInput);
+            HeadlessRunner.keepPlayerAlive(world);
+            return world.getProjectiles().getCount();
+        };
+    }
+
+    // ========================================
+    // SETUP HELPERS
+    // ========================================
+
+    // Square world with a 64px tile map (about 5% solid tiles) plus hand-placed obstacles
+    static Collision buildCollision(int worldSize, int obstacleCount, long seed) throws IOException {
+        Random random = new Random(seed);
+        Collision collision = new Collision();
+
+        int tiles = worldSize / 64;
+        File csv = File.createTempFile("bench-collision", ".csv");
+        csv.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(csv)) {
+            for (int row = 0; row < tiles; row++) {
+                StringBuilder line = new StringBuilder();
+                for (int col = 0; col < tiles; col++) {
+                    if (col > 0) line.append(',');
+                    line.append(random.nextInt(20) == 0 ? '1' : '0');
+                }
+                out.println(line);
+            }
+        }
+        collision.loadFromFile(csv.getPath());
+
+        for (int i = 0; i < obstacleCount; i++) {
+            collision.addObstacle(random.nextInt(worldSize - 200), random.nextInt(worldSize - 200),
+                20 + random.nextInt(180), 20 + random.nextInt(180));
+        }
+        return collision;
+    }
+}
@@ -0,0 +1,148 @@
+package jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SimulationBenchmarks {
+
+    // ========================================
+    // BENCHMARK SUITE (simulation hot paths)
+    // ========================================
+
+    // Run from the project root (no display needed):
+    //   gradle jmh                                        full run with -prof gc
+    //   gradle jmh -Pjmh.args="-prof gc checkCollision"   only matching benchmarks
+    // bench/baseline.txt is the committed reference run; compare new runs against it.
+    // The workloads themselves are in SimulationWorkloads (default package, next to the game).
+
+    // ========================================
+    // COLLISION
+    // ========================================
+
+    @State(Scope.Thread)
+    public static class CollisionState {
+        @Param({ "2048", "8192", "16384" })
+        int worldSize;
+
+        @Param({ "10", "100", "1000" })
+        int obstacles;
+
+        LongSupplier checkCollision;
+        LongSupplier hasLineOfSight;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            checkCollision = workload("checkCollision", worldSize, obstacles);
+            hasLineOfSight = workload("hasLineOfSight", worldSize, obstacles);
+        }
+    }
+
+    @Benchmark
+    public void checkCollision(CollisionState state, Blackhole blackhole) {
+        blackhole.consume(state.checkCollision.getAsLong());
+    }
+
+    @Benchmark
+    public void hasLineOfSight(CollisionState state, Blackhole blackhole) {
+        blackhole.consume(state.hasLineOfSight.getAsLong());
+    }
+
+    // ========================================
+    // ENEMY
+    // ========================================
+
+    @State(Scope.Thread)
+    public static class EnemyState {
+        LongSupplier patrol;
+        LongSupplier chase;
+        LongSupplier breadcrumbs;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            patrol = workload("enemyPatrol");
+            chase = workload("enemyChase");
+            breadcrumbs = workload("breadcrumbs");
+        }
+    }
+
+    @Benchmark
+    public void enemyUpdatePatrol(EnemyState state, Blackhole blackhole) {
+        blackhole.consume(state.patrol.getAsLong());
+    }
+
+    @Benchmark
+    public void enemyUpdateChase(EnemyState state, Blackhole blackhole) {
+        blackhole.consume(state.chase.getAsLong());
+    }
+
+    @Benchmark
+    public void enemySetBreadcrumbTrail(EnemyState state, Blackhole blackhole) {
+        blackhole.consume(state.breadcrumbs.getAsLong());
+    }
+
+    // ========================================
+    // PROJECTILES
+    // ========================================
+
+    @State(Scope.Thread)
+    public static class ProjectileState {
+        @Param({ "100", "1000" })
+        int projectiles;
+
+        LongSupplier update;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            update = workload("projectiles", projectiles);
+        }
+    }
+
+    @Benchmark
+    public void projectileSystemUpdate(ProjectileState state, Blackhole blackhole) {
+        blackhole.consume(state.update.getAsLong());
+    }
+
+    // ========================================
+    // FULL TICK
+    // ========================================
+
+    @State(Scope.Thread)
+    public static class TickState {
+        @Param({ "10", "100", "1000" })
+        int enemies;
+
+        LongSupplier update;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            update = workload("tick", enemies);
+        }
+    }
+
+    @Benchmark
+    public void gameWorldUpdate(TickState state, Blackhole blackhole) {
+        blackhole.consume(state.update.getAsLong());
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    // SimulationWorkloads.<name>(int...), looked up once per trial (never on the measured path)
+    private static LongSupplier workload(String name, int... args) throws ReflectiveOperationException {
+        Class<?>[] types = new Class<?>[args.length];
+        Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            types[i] = int.class;
+            values[i] = args[i];
+        }
+        return (LongSupplier) Class.forName("SimulationWorkloads").getMethod(name, types).invoke(null, values);
+    }
+}
@@ -0,0 +1,112 @@
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+public class ActiveRenderer extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+
+    // ========================================
+    // RENDER SURFACE
+    // ========================================
+
+    // Heavyweight canvas drawn directly by the game thread through a BufferStrategy (page flipping
+    // or blitting, whatever the platform gives us). Swing never paints it, so frames are presented
+    // exactly when the loop asks, and the EDT only handles input.
+    private final int bufferCount;
+    private BufferStrategy strategy;
+
+    // ========================================
+    // PRESENT STATS
+    // ========================================
+
+    // Present = show() + Toolkit.sync(); frame = draw + present. Summed over a window and
+    // published by rollStats() (the game loop calls it about once per second).
+    private long presentNanosSum = 0;
+    private long presentNanosMax = 0;
+    private long frameNanosSum = 0;
+    private int framesInWindow = 0;
+    private int framesPresented = 0;
+    private int contentsLost = 0;
+
+    private volatile double averagePresentMillis = 0;
+    private volatile double maxPresentMillis = 0;
+    private volatile double averageFrameMillis = 0;
+
+    public ActiveRenderer(int width, int height, int bufferCount) {
+        this.bufferCount = bufferCount;
+        setPreferredSize(new Dimension(width, height));
+        setIgnoreRepaint(true); // No OS-triggered paints; the game loop redraws every frame anyway
+        setFocusable(true);
+    }
+
+    // ========================================
+    // RENDERING
+    // ========================================
+
+    // Draws one frame with scene and presents it. Returns false while the canvas is not on screen yet.
+    public boolean renderFrame(Color background, Consumer<Graphics2D> scene) {
+        if (!isDisplayable()) return false;
+
+        if (strategy == null) {
+            createBufferStrategy(bufferCount);
+            strategy = getBufferStrategy();
+            requestFocusInWindow(); // Keys go to the canvas in this mode
+        }
+
+        long frameStart = System.nanoTime();
+        long presentNanos;
+        boolean lost;
+        // Redraw if a (volatile) back buffer was lost or restored while drawing
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g.setColor(background);
+                    g.fillRect(0, 0, getWidth(), getHeight());
+                    scene.accept(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            long presentStart = System.nanoTime();
+            strategy.show();
+            Toolkit.getDefaultToolkit().sync(); // Flush the window system queue (matters on X11)
+            presentNanos = System.nanoTime() - presentStart;
+
+            lost = strategy.contentsLost();
+            if (lost) contentsLost++;
+        } while (lost);
+
+        presentNanosSum += presentNanos;
+        presentNanosMax = Math.max(presentNanosMax, presentNanos);
+        frameNanosSum += System.nanoTime() - frameStart;
+        framesInWindow++;
+        framesPresented++;
+        return true;
+    }
+
+    // Publishes the window's averages and starts a new window (game thread)
+    public void rollStats() {
+        if (framesInWindow > 0) {
+            averagePresentMillis = presentNanosSum / 1e6 / framesInWindow;
+            maxPresentMillis = presentNanosMax / 1e6;
+            averageFrameMillis = frameNanosSum / 1e6 / framesInWindow;
+        }
+        presentNanosSum = 0;
+        presentNanosMax = 0;
+        frameNanosSum = 0;
+        framesInWindow = 0;
+    }
+
+    // ========================================
+    // GETTERS
+    // ========================================
+
+    public int getFramesPresented() { return framesPresented; }
+    public int getContentsLost() { return contentsLost; }
+    public double getAveragePresentMillis() { return averagePresentMillis; }
+    public double getMaxPresentMillis() { return maxPresentMillis; }
+    public double getAverageFrameMillis() { return averageFrameMillis; }
+}
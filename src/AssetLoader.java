@@ -0,0 +1,94 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssetLoader {
+
+    // ========================================
+    // LOADER SETTINGS
+    // ========================================
+
+    // Decoding runs on a small fixed pool of daemon threads. Tasks run in submit order, so submitting
+    // the required assets first means they are never stuck behind background ones.
+    private final ExecutorService executor;
+
+    public interface Task<T> {
+        T load() throws Exception;
+    }
+
+    // ========================================
+    // PROGRESS
+    // ========================================
+
+    private final AtomicInteger requiredTotal = new AtomicInteger();
+    private final AtomicInteger requiredDone = new AtomicInteger();
+    private final AtomicInteger backgroundTotal = new AtomicInteger();
+    private final AtomicInteger backgroundDone = new AtomicInteger();
+    private volatile String lastLoaded = "";
+
+    public AssetLoader(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread t = new Thread(runnable, "asset-loader-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    // ========================================
+    // SUBMITTING
+    // ========================================
+
+    // Required assets gate the first frame (see isRequiredDone); background ones keep streaming after it.
+    // A failing task is logged and its future completes exceptionally, but it still counts as done.
+    public <T> CompletableFuture<T> submit(String name, boolean required, Task<T> task) {
+        (required ? requiredTotal : backgroundTotal).incrementAndGet();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(task.load());
+            } catch (Exception e) {
+                System.err.println("Failed to load " + name + ": " + e.getMessage());
+                future.completeExceptionally(e);
+            } finally {
+                lastLoaded = name;
+                (required ? requiredDone : backgroundDone).incrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    // No more tasks will be submitted; threads exit once the queue is drained
+    public void finishSubmitting() {
+        executor.shutdown();
+    }
+
+    // ========================================
+    // PROGRESS ACCESS
+    // ========================================
+
+    public boolean isRequiredDone() {
+        return requiredDone.get() >= requiredTotal.get();
+    }
+
+    public boolean isAllDone() {
+        return isRequiredDone() && backgroundDone.get() >= backgroundTotal.get();
+    }
+
+    // 0..1 over the required assets only (what the loading screen waits for)
+    public float getRequiredProgress() {
+        int total = requiredTotal.get();
+        return total == 0 ? 1f : requiredDone.get() / (float) total;
+    }
+
+    public int getRequiredDone() { return requiredDone.get(); }
+    public int getRequiredTotal() { return requiredTotal.get(); }
+    public int getBackgroundDone() { return backgroundDone.get(); }
+    public int getBackgroundTotal() { return backgroundTotal.get(); }
+    public String getLastLoaded() { return lastLoaded; }
+}
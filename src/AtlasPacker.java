@@ -0,0 +1,137 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+public class AtlasPacker {
+
+    // ========================================
+    // OFFLINE ATLAS PACKING STEP
+    // ========================================
+
+    // Packs every frame of each character/enemy into one sheet + .atlas index (read by TextureAtlas).
+    // Run from the project root after adding or changing frames, then commit the output:
+    //   java AtlasPacker [resourcesDir] [outputDir]      (defaults: resources, resources/Atlas)
+    // One atlas per folder under Characters/ and Enemies/ (Crane, Bandit, Dummy, High_Mage, Musketeer).
+    private static final String[] GROUP_ROOTS = { "Characters", "Enemies" };
+    private static final int MAX_SHEET_WIDTH = 2048;
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        File resources = new File(args.length > 0 ? args[0] : "resources");
+        File output = new File(args.length > 1 ? args[1] : "resources" + File.separator + "Atlas");
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IOException("Cannot create " + output);
+        }
+
+        for (String root : GROUP_ROOTS) {
+            File[] groups = new File(resources, root).listFiles(File::isDirectory);
+            if (groups == null) continue;
+            Arrays.sort(groups);
+            for (File group : groups) {
+                pack(resources, group, output);
+            }
+        }
+    }
+
+    // ========================================
+    // PACKING
+    // ========================================
+
+    private static void pack(File resources, File group, File output) throws IOException {
+        List<File> files = new ArrayList<>();
+        collectPngs(group, files);
+        if (files.isEmpty()) return;
+
+        List<Frame> frames = new ArrayList<>();
+        for (File file : files) {
+            BufferedImage img = ImageIO.read(file);
+            if (img == null) {
+                System.err.println("Skipping unreadable image: " + file);
+                continue;
+            }
+            String relative = resources.toPath().relativize(file.toPath()).toString();
+            frames.add(new Frame(TextureAtlas.normalizeKey(relative), img));
+        }
+
+        // Shelf packing: tallest first, fill rows left to right
+        frames.sort(Comparator.comparingInt((Frame f) -> f.image.getHeight()).reversed()
+            .thenComparing(f -> f.key));
+
+        long area = 0;
+        int widest = 0;
+        for (Frame f : frames) {
+            area += (long) f.image.getWidth() * f.image.getHeight();
+            widest = Math.max(widest, f.image.getWidth());
+        }
+        int sheetWidth = Math.max(widest, Math.min(MAX_SHEET_WIDTH, Integer.highestOneBit((int) Math.sqrt(area)) * 2));
+
+        int x = 0, y = 0, shelfHeight = 0;
+        for (Frame f : frames) {
+            if (x + f.image.getWidth() > sheetWidth) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            f.x = x;
+            f.y = y;
+            x += f.image.getWidth();
+            shelfHeight = Math.max(shelfHeight, f.image.getHeight());
+        }
+        int sheetHeight = y + shelfHeight;
+
+        BufferedImage sheet = new BufferedImage(sheetWidth, sheetHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        for (Frame f : frames) {
+            g.drawImage(f.image, f.x, f.y, null);
+        }
+        g.dispose();
+
+        String name = group.getName().toLowerCase();
+        File sheetFile = new File(output, name + ".png");
+        ImageIO.write(sheet, "png", sheetFile);
+
+        // Index sorted by key so regenerating gives a stable diff
+        frames.sort(Comparator.comparing(f -> f.key));
+        try (PrintWriter out = new PrintWriter(new File(output, name + ".atlas"))) {
+            out.println("# Generated by AtlasPacker from " + group.getPath().replace('\\', '/') + " - do not edit");
+            out.println("# <key> <x> <y> <width> <height>");
+            out.println(sheetFile.getName());
+            for (Frame f : frames) {
+                out.println(f.key + " " + f.x + " " + f.y + " " + f.image.getWidth() + " " + f.image.getHeight());
+            }
+        }
+
+        System.out.println(name + ": " + frames.size() + " frames -> " + sheetWidth + "x" + sheetHeight);
+    }
+
+    private static void collectPngs(File dir, List<File> out) {
+        File[] children = dir.listFiles();
+        if (children == null) return;
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collectPngs(child, out);
+            } else if (child.getName().toLowerCase().endsWith(".png")) {
+                out.add(child);
+            }
+        }
+    }
+
+    private static class Frame {
+        final String key;
+        final BufferedImage image;
+        int x, y;
+
+        Frame(String key, BufferedImage image) {
+            this.key = key;
+            this.image = image;
+        }
+    }
+}
@@ -1,71 +1,392 @@
 import java.awt.*;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class Collision {
 
-    // List of all obstacles (rectangles) in map
+    // List of hand-placed obstacles (rectangles) in map, e.g. the house and tree
     private final List<Rectangle> obstacles = new ArrayList<>();
-     
+
     // Size of each tile in pixels. Used for converting map coordinates to pixel positions
     private int tileSize = 64; // size of each tile in pixels
 
-    // Add obstacle manually (direct to the code. see it in class GamePanel -> initCollisions())
+    private static final Color OBSTACLE_COLOR = new Color(255, 255, 255, 120); // Semi-transparent white
+
+    // ========================================
+    // TILE BITMAP (tile maps from loadFromFile)
+    // ========================================
+
+    // One bit per tile (row-major, 1 = solid). Tiles outside the bitmap are never solid.
+    private int tileCols = 0;
+    private int tileRows = 0;
+    private long[] solidTiles = new long[0];
+    private int solidTileCount = 0;
+
+    // ========================================
+    // SPATIAL INDEX (uniform grid)
+    // ========================================
+
+    // Obstacles are bucketed into fixed-size cells so a query only scans the cells it overlaps.
+    // Each cell stores indices into the obstacles list (kept in insertion order).
+    private final int cellSize = 256;
+    private int gridCols = 0;
+    private int gridRows = 0;
+    private int[][] cellObstacles = new int[0][];
+    private int[] cellCounts = new int[0];
+
+    // Add obstacle manually (direct to the code. see it in class GameWorld -> initCollisions())
     public void addObstacle(int x, int y, int width, int height) {
         obstacles.add(new Rectangle(x, y, width, height));
+        indexObstacle(obstacles.size() - 1);
     }
 
     // OPTIONAL: Add obstacles dynamically (it will come from a Tiled or txt file)
+    // Solid tiles go into the tile bitmap instead of becoming one Rectangle each
     public void loadFromFile(String filePath) {
+        List<String[]> rows = new ArrayList<>();
+        int cols = 0;
+
         try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
             String line;
-            int row = 0;
 
             // Read file line by line (each line = one tile row)
             while ((line = br.readLine()) != null) {
                 String[] values = line.split(",");
-                for (int col = 0; col < values.length; col++) {
-                    // If the tile is marked as solid ("1"), create an obstacle rectangle
-                    if (values[col].trim().equals("1")) {
-                        int x = col * tileSize;
-                        int y = row * tileSize;
-                        obstacles.add(new Rectangle(x, y, tileSize, tileSize));
-                    }
-                }
-                row++;
+                rows.add(values);
+                cols = Math.max(cols, values.length);
             }
         } catch (IOException e) {
             System.out.println("Failed to load collision file: " + e.getMessage());
+            return;
+        }
+
+        tileCols = cols;
+        tileRows = rows.size();
+        solidTiles = new long[(tileCols * tileRows + 63) >> 6];
+        solidTileCount = 0;
+
+        for (int row = 0; row < tileRows; row++) {
+            String[] values = rows.get(row);
+            for (int col = 0; col < values.length; col++) {
+                // If the tile is marked as solid ("1"), set its bit
+                if (values[col].trim().equals("1")) {
+                    int bit = row * tileCols + col;
+                    solidTiles[bit >> 6] |= 1L << bit;
+                    solidTileCount++;
+                }
+            }
         }
     }
 
     // Check collision if MC collides with obstacles
     public boolean checkCollision(Rectangle rect) {
-        for (Rectangle obs : obstacles) {
-            if (rect.intersects(obs)) return true;
+        if (rect.width <= 0 || rect.height <= 0) return false;
+        if (findSolidTile(rect) >= 0) return true;
+        if (gridCols == 0) return false;
+
+        int col0 = cellCol(rect.x);
+        int col1 = cellCol(rect.x + rect.width - 1);
+        int row0 = cellRow(rect.y);
+        int row1 = cellRow(rect.y + rect.height - 1);
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * gridCols + col;
+                int[] bucket = cellObstacles[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    if (rect.intersects(obstacles.get(bucket[i]))) return true;
+                }
+            }
         }
         return false;
     }
 
-    // To get what sensor detect
+    // To get what sensor detect. Returns a new Rectangle the caller may keep (allocated only on a hit).
     public Rectangle getCollision(Rectangle rect) {
-        for (Rectangle obs : obstacles) {
-            if (rect.intersects(obs)) return obs;
+        if (rect.width <= 0 || rect.height <= 0) return null;
+
+        // Tiles win over hand-placed obstacles
+        int tile = findSolidTile(rect);
+        if (tile >= 0) {
+            return new Rectangle((tile % tileCols) * tileSize, (tile / tileCols) * tileSize, tileSize, tileSize);
+        }
+        if (gridCols == 0) return null;
+
+        int col0 = cellCol(rect.x);
+        int col1 = cellCol(rect.x + rect.width - 1);
+        int row0 = cellRow(rect.y);
+        int row1 = cellRow(rect.y + rect.height - 1);
+
+        // Keep the lowest index so the result matches a front-to-back scan of the list
+        int best = Integer.MAX_VALUE;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * gridCols + col;
+                int[] bucket = cellObstacles[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int idx = bucket[i];
+                    if (idx < best && rect.intersects(obstacles.get(idx))) {
+                        best = idx;
+                        break; // Buckets are sorted by index, the rest can't beat this one
+                    }
+                }
+            }
         }
-        return null;
+        return best == Integer.MAX_VALUE ? null : new Rectangle(obstacles.get(best));
+    }
+
+    // Line of sight between two points (e.g. enemy eye -> player). Walks the cells the segment
+    // crosses with a DDA (Amanatides-Woo) traversal and stops at the first blocking cell.
+    // Exact for thin walls and allocates nothing.
+    public boolean hasLineOfSight(int x1, int y1, int x2, int y2) {
+        if (tileCols > 0 && raycastBlocked(x1, y1, x2, y2, tileSize, tileCols, tileRows, true)) return false;
+        if (gridCols > 0 && raycastBlocked(x1, y1, x2, y2, cellSize, gridCols, gridRows, false)) return false;
+        return true;
     }
 
-    // To visualize all of the obstacles
-    public void draw(Graphics2D g, int cameraX, int cameraY) {
-        g.setColor(new Color(255, 255, 255, 120)); // Semi-transparent white
-        for (Rectangle obs : obstacles) {
-            g.fillRect(obs.x - cameraX, obs.y - cameraY, obs.width, obs.height);
+    // To visualize the obstacles inside view (world coordinates). Only the tiles and index cells under
+    // the view are visited. Returns how many shapes were drawn (see getShapeCount for the total).
+    public int draw(Graphics2D g, int cameraX, int cameraY, Rectangle view) {
+        g.setColor(OBSTACLE_COLOR);
+        int drawn = 0;
+
+        if (tileCols > 0) {
+            int col0 = Math.max(0, Math.floorDiv(view.x, tileSize));
+            int col1 = Math.min(tileCols - 1, Math.floorDiv(view.x + view.width - 1, tileSize));
+            int row0 = Math.max(0, Math.floorDiv(view.y, tileSize));
+            int row1 = Math.min(tileRows - 1, Math.floorDiv(view.y + view.height - 1, tileSize));
+            for (int row = row0; row <= row1; row++) {
+                for (int col = col0; col <= col1; col++) {
+                    if (isSolidTile(col, row)) {
+                        g.fillRect(col * tileSize - cameraX, row * tileSize - cameraY, tileSize, tileSize);
+                        drawn++;
+                    }
+                }
+            }
         }
+
+        if (gridCols > 0 && view.width > 0 && view.height > 0) {
+            int col0 = cellCol(view.x);
+            int col1 = cellCol(view.x + view.width - 1);
+            int row0 = cellRow(view.y);
+            int row1 = cellRow(view.y + view.height - 1);
+            for (int row = row0; row <= row1; row++) {
+                for (int col = col0; col <= col1; col++) {
+                    int cell = row * gridCols + col;
+                    int[] bucket = cellObstacles[cell];
+                    for (int i = 0; i < cellCounts[cell]; i++) {
+                        Rectangle obs = obstacles.get(bucket[i]);
+                        if (!view.intersects(obs)) continue;
+
+                        // An obstacle sits in every cell it overlaps; draw it only from the cell
+                        // holding the top-left corner of its visible part (translucent, so no double draws)
+                        int firstCol = cellCol(Math.max(obs.x, view.x));
+                        int firstRow = cellRow(Math.max(obs.y, view.y));
+                        if (col != firstCol || row != firstRow) continue;
+
+                        g.fillRect(obs.x - cameraX, obs.y - cameraY, obs.width, obs.height);
+                        drawn++;
+                    }
+                }
+            }
+        }
+        return drawn;
     }
 
-    // Return the list of all obstacles
+    // Solid tiles plus hand-placed obstacles (everything draw could show)
+    public int getShapeCount() {
+        return solidTileCount + obstacles.size();
+    }
+
+    // Return the list of hand-placed obstacles (read-only, add through addObstacle so the index stays in sync)
+    // Solid tiles are not in this list, query them with isSolidTile
     public List<Rectangle> getObstacles() {
-        return obstacles;
+        return Collections.unmodifiableList(obstacles);
+    }
+
+    // True if the tile at (col, row) is solid. Anything outside the loaded tile map is open.
+    public boolean isSolidTile(int col, int row) {
+        if (col < 0 || row < 0 || col >= tileCols || row >= tileRows) return false;
+        int bit = row * tileCols + col;
+        return (solidTiles[bit >> 6] & (1L << bit)) != 0;
+    }
+
+    public int getTileSize() { return tileSize; }
+    public int getTileCols() { return tileCols; }
+    public int getTileRows() { return tileRows; }
+
+    // ========================================
+    // TILE BITMAP HELPERS
+    // ========================================
+
+    // Returns the bit index of the first solid tile under rect, or -1. Only the tiles under
+    // the query box are visited, so the cost doesn't depend on the size of the map.
+    private int findSolidTile(Rectangle rect) {
+        if (tileCols == 0) return -1;
+
+        int col0 = Math.max(0, Math.floorDiv(rect.x, tileSize));
+        int col1 = Math.min(tileCols - 1, Math.floorDiv(rect.x + rect.width - 1, tileSize));
+        int row0 = Math.max(0, Math.floorDiv(rect.y, tileSize));
+        int row1 = Math.min(tileRows - 1, Math.floorDiv(rect.y + rect.height - 1, tileSize));
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int bit = row * tileCols + col;
+                if ((solidTiles[bit >> 6] & (1L << bit)) != 0) return bit;
+            }
+        }
+        return -1;
+    }
+
+    // ========================================
+    // RAYCAST HELPERS
+    // ========================================
+
+    // Grid traversal shared by the tile bitmap (tileMode) and the obstacle index. In tile mode a
+    // solid cell blocks the ray. Otherwise each visited cell's obstacles are tested against the segment.
+    private boolean raycastBlocked(double x1, double y1, double x2, double y2,
+                                   int size, int cols, int rows, boolean tileMode) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+
+        int cx = (int) Math.floor(x1 / size);
+        int cy = (int) Math.floor(y1 / size);
+        int endX = (int) Math.floor(x2 / size);
+        int endY = (int) Math.floor(y2 / size);
+
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+
+        // Distance along the segment (t in [0, 1]) to the next vertical / horizontal cell border
+        double tMaxX = stepX > 0 ? ((cx + 1) * (double) size - x1) / dx
+                     : stepX < 0 ? (cx * (double) size - x1) / dx : Double.POSITIVE_INFINITY;
+        double tMaxY = stepY > 0 ? ((cy + 1) * (double) size - y1) / dy
+                     : stepY < 0 ? (cy * (double) size - y1) / dy : Double.POSITIVE_INFINITY;
+        double tDeltaX = stepX != 0 ? size / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = stepY != 0 ? size / Math.abs(dy) : Double.POSITIVE_INFINITY;
+
+        int maxSteps = Math.abs(endX - cx) + Math.abs(endY - cy) + 1;
+        for (int i = 0; i < maxSteps; i++) {
+            if (tileMode) {
+                if (isSolidTile(cx, cy)) return true;
+            } else if (segmentHitsCell(x1, y1, dx, dy, cx, cy, cols, rows)) {
+                return true;
+            }
+
+            if (cx == endX && cy == endY) break;
+
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+        return false;
+    }
+
+    private boolean segmentHitsCell(double x1, double y1, double dx, double dy,
+                                    int col, int row, int cols, int rows) {
+        // Out-of-grid cells map to the border cell, same as insertIntoCells
+        int cell = Math.max(0, Math.min(rows - 1, row)) * cols + Math.max(0, Math.min(cols - 1, col));
+        int[] bucket = cellObstacles[cell];
+        for (int i = 0; i < cellCounts[cell]; i++) {
+            if (segmentHitsRect(x1, y1, dx, dy, obstacles.get(bucket[i]))) return true;
+        }
+        return false;
+    }
+
+    // Slab test: does the segment (x1, y1) + t * (dx, dy), t in [0, 1], pass through the rectangle?
+    private boolean segmentHitsRect(double x1, double y1, double dx, double dy, Rectangle r) {
+        double tEnter = 0.0;
+        double tExit = 1.0;
+
+        if (dx == 0) {
+            if (x1 < r.x || x1 >= r.x + r.width) return false;
+        } else {
+            double a = (r.x - x1) / dx;
+            double b = (r.x + r.width - x1) / dx;
+            tEnter = Math.max(tEnter, Math.min(a, b));
+            tExit = Math.min(tExit, Math.max(a, b));
+            if (tEnter >= tExit) return false;
+        }
+
+        if (dy == 0) {
+            if (y1 < r.y || y1 >= r.y + r.height) return false;
+        } else {
+            double a = (r.y - y1) / dy;
+            double b = (r.y + r.height - y1) / dy;
+            tEnter = Math.max(tEnter, Math.min(a, b));
+            tExit = Math.min(tExit, Math.max(a, b));
+        }
+        return tEnter < tExit;
+    }
+
+    // ========================================
+    // SPATIAL INDEX HELPERS
+    // ========================================
+
+    // Cells are clamped to the grid, so anything left/above of 0 or past the edge lands in a border cell.
+    // Obstacles and queries are clamped the same way, which keeps results exact for any coordinates.
+    private int cellCol(int px) {
+        int col = Math.floorDiv(px, cellSize);
+        return Math.max(0, Math.min(gridCols - 1, col));
+    }
+
+    private int cellRow(int py) {
+        int row = Math.floorDiv(py, cellSize);
+        return Math.max(0, Math.min(gridRows - 1, row));
+    }
+
+    private void indexObstacle(int idx) {
+        Rectangle obs = obstacles.get(idx);
+        if (obs.width <= 0 || obs.height <= 0) return; // Empty rectangles never intersect anything
+
+        // Grow the grid (doubling) when an obstacle reaches past the current extent
+        int neededCols = Math.floorDiv(obs.x + obs.width - 1, cellSize) + 1;
+        int neededRows = Math.floorDiv(obs.y + obs.height - 1, cellSize) + 1;
+        if (neededCols > gridCols || neededRows > gridRows) {
+            resizeGrid(Math.max(neededCols, gridCols * 2), Math.max(neededRows, gridRows * 2));
+            return; // resizeGrid re-indexes every obstacle, including this one
+        }
+        insertIntoCells(idx, obs);
+    }
+
+    private void resizeGrid(int cols, int rows) {
+        gridCols = Math.max(1, cols);
+        gridRows = Math.max(1, rows);
+        cellObstacles = new int[gridCols * gridRows][];
+        cellCounts = new int[gridCols * gridRows];
+
+        for (int i = 0; i < obstacles.size(); i++) {
+            Rectangle obs = obstacles.get(i);
+            if (obs.width <= 0 || obs.height <= 0) continue;
+            insertIntoCells(i, obs);
+        }
+    }
+
+    private void insertIntoCells(int idx, Rectangle obs) {
+        int col0 = cellCol(obs.x);
+        int col1 = cellCol(obs.x + obs.width - 1);
+        int row0 = cellRow(obs.y);
+        int row1 = cellRow(obs.y + obs.height - 1);
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * gridCols + col;
+                int[] bucket = cellObstacles[cell];
+                if (bucket == null) {
+                    bucket = new int[4];
+                } else if (cellCounts[cell] == bucket.length) {
+                    bucket = Arrays.copyOf(bucket, bucket.length * 2);
+                }
+                bucket[cellCounts[cell]++] = idx; // Indices only ever grow, so buckets stay sorted
+                cellObstacles[cell] = bucket;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+public class DebugOverlay {
+
+    // ========================================
+    // LAYERS
+    // ========================================
+
+    // Each debug visual is its own layer, one bit in a mask. The renderer reads the mask once per
+    // frame and skips a layer outright when its bit is clear, so a disabled layer costs nothing.
+    public enum Layer {
+        HITBOXES("hitboxes"),       // Player body (red) + sensor (yellow), enemy bodies (red)
+        PATROL("patrol"),           // Enemy patrol areas (green)
+        RANGES("ranges"),           // Enemy sight / melee / range circles (black)
+        OBSTACLES("obstacles"),     // Collision tiles and shapes (light white)
+        BREADCRUMBS("breadcrumbs"), // Player trail (brown)
+        CLICKS("clicks"),           // Prints the world position of mouse clicks
+        STATS("stats");             // Tick/frame rates, culling, sprite and map cache stats
+
+        final String key;
+        final int bit = 1 << ordinal();
+
+        Layer(String key) {
+            this.key = key;
+        }
+    }
+
+    public static final int HITBOXES = Layer.HITBOXES.bit;
+    public static final int PATROL = Layer.PATROL.bit;
+    public static final int RANGES = Layer.RANGES.bit;
+    public static final int OBSTACLES = Layer.OBSTACLES.bit;
+    public static final int BREADCRUMBS = Layer.BREADCRUMBS.bit;
+    public static final int CLICKS = Layer.CLICKS.bit;
+    public static final int STATS = Layer.STATS.bit;
+
+    // Layers F3 turns on when none are selected (what the game always showed, everything but stats)
+    private static final int DEFAULT_LAYERS = HITBOXES | PATROL | RANGES | OBSTACLES | BREADCRUMBS | CLICKS;
+    private static final int ALL_LAYERS = DEFAULT_LAYERS | STATS;
+
+    // ========================================
+    // STATE
+    // ========================================
+
+    // Toggled from the game loop, read by the render thread and the EDT (clicks)
+    private volatile int layers;            // Selected layers
+    private volatile boolean enabled;       // Master switch (F3); off hides every layer
+    private volatile String[] statsLines = new String[0]; // Refreshed by the game loop about once per second
+
+    // -Dundying.debug=all | none | comma separated layer names (e.g. hitboxes,stats).
+    // Unset or none = off; F3 then turns on the default layers.
+    public DebugOverlay(String setting) {
+        this.layers = DEFAULT_LAYERS;
+        this.enabled = false;
+        if (setting == null) return;
+
+        String value = setting.trim().toLowerCase();
+        if (value.equals("none") || value.isEmpty()) return;
+        if (value.equals("all")) {
+            layers = ALL_LAYERS;
+            enabled = true;
+            return;
+        }
+
+        int parsed = 0;
+        for (String name : value.split(",")) {
+            Layer layer = find(name.trim());
+            if (layer == null) {
+                System.err.println("Unknown debug layer: " + name.trim());
+            } else {
+                parsed |= layer.bit;
+            }
+        }
+        layers = parsed;
+        enabled = parsed != 0;
+    }
+
+    private static Layer find(String key) {
+        for (Layer layer : Layer.values()) {
+            if (layer.key.equals(key)) return layer;
+        }
+        return null;
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    // Layers to draw right now (0 when the overlay is off)
+    public int getActiveLayers() {
+        return enabled ? layers : 0;
+    }
+
+    public boolean isOn(int layer) {
+        return (getActiveLayers() & layer) != 0;
+    }
+
+    public String[] getStatsLines() { return statsLines; }
+    public void setStatsLines(String[] statsLines) { this.statsLines = statsLines; }
+
+    // ========================================
+    // TOGGLES (game loop)
+    // ========================================
+
+    // F3: the whole overlay on/off, keeping the layer selection
+    public void toggle() {
+        enabled = !enabled;
+        if (enabled && layers == 0) layers = DEFAULT_LAYERS;
+    }
+
+    // 1-7: one layer on/off (turns the overlay on if it was off)
+    public void toggleLayer(int index) {
+        Layer[] all = Layer.values();
+        if (index < 0 || index >= all.length) return;
+
+        if (!enabled) {
+            enabled = true;
+            layers = all[index].bit;
+        } else {
+            layers ^= all[index].bit;
+        }
+    }
+
+    // Active layer names for the stats panel ("off" when the overlay is off)
+    public String describe() {
+        int active = getActiveLayers();
+        if (active == 0) return "off";
+
+        StringBuilder names = new StringBuilder();
+        for (Layer layer : Layer.values()) {
+            if ((active & layer.bit) != 0) {
+                if (names.length() > 0) names.append(", ");
+                names.append(layer.key);
+            }
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,156 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+public class DrawList {
+
+    // ========================================
+    // LAYERS
+    // ========================================
+
+    // Drawn bottom to top; inside a layer, back to front by depth: the world y an object stands at
+    // (feet = body hitbox bottom for the player and enemies, collision box bottom for props), so
+    // whoever stands lower on screen covers whoever stands behind them
+    public static final int LAYER_GROUND = 0;     // Flat things everyone walks over
+    public static final int LAYER_ENTITIES = 1;   // Player, enemies and standing props, depth sorted
+    public static final int LAYER_OVERHEAD = 2;   // Always on top of the entities
+
+    private static final AlphaComposite FADED = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f);
+
+    // ========================================
+    // COMMANDS
+    // ========================================
+
+    // One sprite per command, kept in parallel arrays that only grow (no objects per frame).
+    // The sort key packs layer, depth and an image hash into one long: layer first, then depth,
+    // then equal-depth sprites grouped by image. Render thread only.
+    private int count = 0;
+    private BufferedImage[] images = new BufferedImage[64];
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int[] widths = new int[64];
+    private int[] heights = new int[64];
+    private boolean[] faded = new boolean[64];
+    private long[] keys = new long[64];
+
+    // Draw order (indices into the commands). Entities submit in the same order every frame and
+    // barely move between frames, so last frame's order is nearly sorted already and the insertion
+    // sort in sort() costs about one pass instead of n log n.
+    private int[] order = new int[64];
+    private int orderCount = 0;
+
+    // Last frame: commands drawn, insertion sort moves, composite switches
+    private volatile int lastCommands = 0;
+    private volatile int lastMoves = 0;
+    private volatile int lastStateChanges = 0;
+
+    // ========================================
+    // BUILDING
+    // ========================================
+
+    public void clear() {
+        // Drop image references so a finished frame does not pin sprites
+        Arrays.fill(images, 0, count, null);
+        count = 0;
+    }
+
+    // image is drawn at (x, y) in the target's coordinates, stretched to width x height if it is
+    // not that size already; faded = 30% opacity (dead player)
+    public void add(BufferedImage image, int x, int y, int width, int height, int layer, int depth, boolean faded) {
+        if (count == images.length) grow();
+        images[count] = image;
+        xs[count] = x;
+        ys[count] = y;
+        widths[count] = width;
+        heights[count] = height;
+        this.faded[count] = faded;
+        keys[count] = ((long) layer << 56)
+            | (((long) depth + 0x8000_0000L) & 0xFFFF_FFFFL) << 24
+            | (System.identityHashCode(image) & 0xFF_FFFFL);
+        count++;
+    }
+
+    private void grow() {
+        int size = images.length * 2;
+        images = Arrays.copyOf(images, size);
+        xs = Arrays.copyOf(xs, size);
+        ys = Arrays.copyOf(ys, size);
+        widths = Arrays.copyOf(widths, size);
+        heights = Arrays.copyOf(heights, size);
+        faded = Arrays.copyOf(faded, size);
+        keys = Arrays.copyOf(keys, size);
+    }
+
+    // ========================================
+    // SORTING
+    // ========================================
+
+    // Starts from last frame's order: indices that no longer exist are dropped and new ones
+    // appended, then an insertion sort (stable, so ties keep their previous order) fixes the rest
+    public void sort() {
+        if (order.length < count) {
+            order = Arrays.copyOf(order, images.length);
+        }
+        int n = 0;
+        for (int i = 0; i < orderCount; i++) {
+            if (order[i] < count) order[n++] = order[i];
+        }
+        for (int index = orderCount; index < count; index++) {
+            order[n++] = index;
+        }
+        orderCount = count;
+
+        int moves = 0;
+        for (int i = 1; i < count; i++) {
+            int index = order[i];
+            long key = keys[index];
+            int j = i - 1;
+            while (j >= 0 && keys[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+                moves++;
+            }
+            order[j + 1] = index;
+        }
+        lastMoves = moves;
+    }
+
+    // ========================================
+    // DRAWING
+    // ========================================
+
+    // Draws every command in sorted order; the composite is only touched when it changes
+    public void draw(Graphics2D g) {
+        boolean fadedNow = false;
+        int stateChanges = 0;
+        for (int i = 0; i < count; i++) {
+            int index = order[i];
+            if (faded[index] != fadedNow) {
+                fadedNow = faded[index];
+                g.setComposite(fadedNow ? FADED : AlphaComposite.SrcOver);
+                stateChanges++;
+            }
+
+            BufferedImage image = images[index];
+            if (image.getWidth() == widths[index] && image.getHeight() == heights[index]) {
+                g.drawImage(image, xs[index], ys[index], null);
+            } else {
+                g.drawImage(image, xs[index], ys[index], widths[index], heights[index], null);
+            }
+        }
+        if (fadedNow) {
+            g.setComposite(AlphaComposite.SrcOver);
+            stateChanges++;
+        }
+        lastCommands = count;
+        lastStateChanges = stateChanges;
+    }
+
+    // ========================================
+    // GETTERS
+    // ========================================
+
+    public int getLastCommands() { return lastCommands; }
+    public int getLastMoves() { return lastMoves; }
+    public int getLastStateChanges() { return lastStateChanges; }
+}
@@ -11,6 +11,7 @@ public class Enemy {
 
     private String enemyType = "Enemy";
     private int x, y;
+    private int snapshotX = Integer.MIN_VALUE, snapshotY; // Position in the last render snapshot
     private int spawnX, spawnY;
     
     /** Enemy sprite dimensions (default if they are 64x64 canvas size) */
@@ -80,6 +81,7 @@ public class Enemy {
     private boolean hasSeenPlayer = false;
     private boolean wasSeeingPlayer = false;
     private boolean canSeePlayer = false;
+    private boolean playerInSight = false; // Set every tick by GameWorld's perception pass
 
     // ========================================
     // BREADCRUMB TRAIL SYSTEM
@@ -132,7 +134,7 @@ public class Enemy {
     // Stuck detection
     private int stuckCounter = 0;
     private int lastX, lastY;
-    private long lastMoveTime = System.currentTimeMillis();
+    private long lastMoveTime = 0;
     
     // Force step back system
     private int consecutiveStuckFrames = 0;
@@ -155,7 +157,7 @@ public class Enemy {
     private boolean meleeDamageApplied = false;
     
     private boolean meleeOnCooldown = false;
-    private long meleeLastTime = 0;
+    private long meleeLastTime = Long.MIN_VALUE / 2; // Game time starts at 0: no attack yet, cooldown already expired
     private final long meleeCooldown = 1500;
     
     private Rectangle meleeHitbox = null;
@@ -175,11 +177,11 @@ public class Enemy {
     private boolean projectileSpawnedThisAttack = false;
     
     private boolean rangeOnCooldown = false;
-    private long rangeLastTime = 0;
+    private long rangeLastTime = Long.MIN_VALUE / 2; // Same as meleeLastTime
     private final long rangeCooldown = 2000;
     private final int rangeManaCost = 5;
     
-    public final List<EnemyProjectile> projectiles = new ArrayList<>();
+    private ProjectileSystem projectiles;
     private final int projectileSpeed = 4;
     private final int projectileRange = 200;
 
@@ -199,7 +201,7 @@ public class Enemy {
     private int frameIndex = 0;
     @SuppressWarnings("unused")
     private int frameCounter = 0;
-    private long lastFrameTime = System.currentTimeMillis();
+    private long lastFrameTime = 0;
     private final long frameInterval = 100;
 
     // ========================================
@@ -210,6 +212,20 @@ public class Enemy {
     private final long lookIntervalMin = 500;
     private final long lookIntervalMax = 1000;
 
+    // ========================================
+    // MANA REGENERATION
+    // ========================================
+    
+    private long lastManaRegenTime = 0;
+    private final long manaRegenInterval = 1000; // +1 mana per second
+
+    // ========================================
+    // TIMING
+    // ========================================
+    
+    /** Tick time from the GameClock (ms), refreshed at the start of every update */
+    private long now = 0;
+
     // ========================================
     // CONSTRUCTOR
     // ========================================
@@ -317,12 +333,15 @@ public class Enemy {
     // MAIN UPDATE LOOP
     // ========================================
     
-    public void update(GamePanel gp, Collision collision, Rectangle playerHitbox, Player player, ScreenShake screenShake) {
+    public void update(Collision collision, Rectangle playerHitbox, Player player,
+                       ScreenShake screenShake, ProjectileSystem projectiles, GameClock clock) {
+        this.now = clock.millis();
         this.playerHitbox = playerHitbox;
+        this.projectiles = projectiles;
         // Handle respawn if enabled
         if (!alive) {
             if (autoRespawn) {
-                long timeSinceDeath = System.currentTimeMillis() - deathTime;
+                long timeSinceDeath = now - deathTime;
                 if (timeSinceDeath >= respawnDelay) {
                     respawn();
                 }
@@ -341,20 +360,23 @@ public class Enemy {
             return;
         }
         
-        // Calculate distance to player
-        double dx = (playerHitbox.x + playerHitbox.width/2) - (x + width/2);
-        double dy = (playerHitbox.y + playerHitbox.height/2) - (y + height/2);
-        double distToPlayer = Math.sqrt(dx*dx + dy*dy);
+        // Update vision and tracking (visibility comes from the perception pass in GameWorld)
+        updatePlayerTracking();
         
-        // Update vision and tracking
-        updatePlayerTracking(collision, distToPlayer);
+        // Distance to player only matters for picking an attack while the player is in sight
+        double distToPlayer = 0;
+        if (canSeePlayer) {
+            double dx = (playerHitbox.x + playerHitbox.width/2) - (x + width/2);
+            double dy = (playerHitbox.y + playerHitbox.height/2) - (y + height/2);
+            distToPlayer = Math.sqrt(dx*dx + dy*dy);
+        }
         
         // Determine AI state
         determineState(distToPlayer);
         
         // Update melee attack animation if active
         if (isMeleeAttacking) {
-            updateMeleeAttackAnimation(playerHitbox, gp, player, screenShake);
+            updateMeleeAttackAnimation(playerHitbox, player, screenShake);
         }
         
         // Update range attack animation if active
@@ -380,9 +402,6 @@ public class Enemy {
         // Check if stuck
         checkStuckStatus(posBeforeX, posBeforeY);
         
-        // Update projectiles
-        updateProjectiles(collision);
-        
         // Update hitbox position
         updateHitbox();
     }
@@ -391,14 +410,9 @@ public class Enemy {
     // PLAYER TRACKING
     // ========================================
     
-    private void updatePlayerTracking(Collision collision, double distToPlayer) {
-        // Check if player is visible
-        canSeePlayer = (distToPlayer <= sightRange) && hasLineOfSight(
-            collision,
-            x + width/2, y + height/2,
-            playerHitbox.x + playerHitbox.width/2,
-            playerHitbox.y + playerHitbox.height/2
-        );
+    private void updatePlayerTracking() {
+        // Range and line of sight were already checked by the perception pass
+        canSeePlayer = playerInSight;
         
         // Update tracking state
         if (canSeePlayer) {
@@ -431,7 +445,7 @@ public class Enemy {
         
         // Expire old breadcrumbs
         if (breadcrumbTrail != null && !breadcrumbTrail.isEmpty()) {
-            if (System.currentTimeMillis() - breadcrumbTimestamp > breadcrumbExpireTime) {
+            if (now - breadcrumbTimestamp > breadcrumbExpireTime) {
                 breadcrumbTrail.clear();
                 breadcrumbTrail = null;
                 currentBreadcrumbTarget = null;
@@ -477,7 +491,7 @@ public class Enemy {
         }
         
         this.breadcrumbTrail = copy;
-        this.breadcrumbTimestamp = System.currentTimeMillis();
+        this.breadcrumbTimestamp = now;
     }
 
     // ========================================
@@ -485,7 +499,6 @@ public class Enemy {
     // ========================================
     
     private void determineState(double distToPlayer) {
-        long now = System.currentTimeMillis();
         
         // Animation locks override state
         if (isMeleeAttacking) {
@@ -573,7 +586,7 @@ public class Enemy {
         
         // Generate new patrol target if needed
         if (state == State.PATROL && randomTarget == null && 
-            System.currentTimeMillis() >= waitAtWaypointUntil) {
+            now >= waitAtWaypointUntil) {
             generatePatrolTarget();
         }
     }
@@ -588,7 +601,6 @@ public class Enemy {
             return;
         }
         
-        long now = System.currentTimeMillis();
         
         // Wait at waypoint
         if (now < waitAtWaypointUntil) {
@@ -722,14 +734,14 @@ public class Enemy {
     private void enterSearchMode(Collision collision) {
         isSearching = true;
         searchAttempts = 0;
-        searchStartTime = System.currentTimeMillis();
+        searchStartTime = now;
         searchTarget = null;
         stuckCounter = 0;
         searchCompleted = false;
         
         // Initialize pause behavior
         isSearchPausing = false;
-        searchMoveStartTime = System.currentTimeMillis();
+        searchMoveStartTime = now;
         searchMoveDuration = searchMoveMin + 
             (long)(Math.random() * (searchMoveMax - searchMoveMin));
         
@@ -745,7 +757,6 @@ public class Enemy {
     }
     
     private void doSearch(Collision collision) {
-        long now = System.currentTimeMillis();
         
         // Check timeout
         if (now - searchStartTime > searchDuration) {
@@ -853,7 +864,6 @@ public class Enemy {
     // ========================================
     
     private void doMelee(Rectangle targetHitbox) {
-        long now = System.currentTimeMillis();
         
         double dx = (targetHitbox.x + targetHitbox.width / 2) - (x + width / 2);
         double dy = (targetHitbox.y + targetHitbox.height / 2) - (y + height / 2);
@@ -892,7 +902,7 @@ public class Enemy {
         meleeOnCooldown = true;
     }
     
-    private void updateMeleeAttackAnimation(Rectangle targetHitbox, GamePanel gp, Player player, ScreenShake screenShake) {
+    private void updateMeleeAttackAnimation(Rectangle targetHitbox, Player player, ScreenShake screenShake) {
         if (!isMeleeAttacking) return;
         
         BufferedImage[] attackFrames = getMeleeAnimationFrames();
@@ -901,7 +911,6 @@ public class Enemy {
             return;
         }
         
-        long now = System.currentTimeMillis();
 
         // Check if enough time has passed to advance frame
         if (now - meleeLastFrameTime >= meleeFrameInterval) {
@@ -910,7 +919,7 @@ public class Enemy {
             
             // Spawn hitbox at specific frame
             if (!meleeSpawnedThisAttack && meleeAttackFrameIndex == meleeSpawnFrame) {
-                createMeleeHitbox(targetHitbox, gp, player, screenShake);
+                createMeleeHitbox(targetHitbox, player, screenShake);
                 meleeSpawnedThisAttack = true;
             }
             
@@ -942,7 +951,7 @@ public class Enemy {
         };
     }
     
-    private void createMeleeHitbox(Rectangle targetHitbox, GamePanel gp, Player player, ScreenShake screenShake) {
+    private void createMeleeHitbox(Rectangle targetHitbox, Player player, ScreenShake screenShake) {
         if (!isMeleeAttacking) {
             meleeHitbox = null;
             meleeDamageApplied = false;
@@ -989,7 +998,6 @@ public class Enemy {
             moveAwayFromTarget(targetHitbox, (rangeAttackRangeEnter + rangeAttackRangeExit) / 2);
             
             // Still try to attack while moving if possible
-            long now = System.currentTimeMillis();
             if (!isRangeAttacking && !rangeOnCooldown && 
                 now - rangeLastTime >= rangeCooldown && currentMana >= rangeManaCost) {
                 faceTarget(dx, dy);
@@ -1016,7 +1024,6 @@ public class Enemy {
         }
         
         // Start new attack
-        long now = System.currentTimeMillis();
         if (!rangeOnCooldown && now - rangeLastTime >= rangeCooldown && currentMana >= rangeManaCost) {
             startRangeAttack(now);
         }
@@ -1048,7 +1055,6 @@ public class Enemy {
             return;
         }
         
-        long now = System.currentTimeMillis();
     
         // Check if enough time has passed to advance frame
         if (now - rangeLastFrameTime >= rangeFrameInterval) {
@@ -1105,8 +1111,7 @@ public class Enemy {
             dy /= len;
         }
         
-        EnemyProjectile p = new EnemyProjectile(sx, sy, dx, dy, projectileSpeed, projectileRange);
-        projectiles.add(p);
+        projectiles.spawn(ProjectileSystem.ENEMY, this, sx, sy, dx, dy, projectileSpeed, projectileRange, rangeDamage);
     }
 
     private void moveAwayFromTarget(Rectangle targetHitbox, int optimalRange) {
@@ -1372,7 +1377,6 @@ public class Enemy {
     }
     
     private void handleStuckAvoidance(Collision collision) {
-        long now = System.currentTimeMillis();
         
         if (now - lastMoveTime > 400) {
             int dx = Math.abs(x - lastX);
@@ -1534,10 +1538,9 @@ public class Enemy {
             currentAnimation = animation;
             frameIndex = 0;
             frameCounter = 0;
-            lastFrameTime = System.currentTimeMillis();
+            lastFrameTime = now;
         }
         
-        long now = System.currentTimeMillis();
         if (now - lastFrameTime >= frameInterval) {
             lastFrameTime = now;
             frameIndex = (frameIndex + 1) % animation.length;
@@ -1592,7 +1595,6 @@ public class Enemy {
         if (state == State.MELEE_ATTACK || state == State.RANGE_ATTACK) return;
         
         if (vx == 0 && vy == 0) {
-            long now = System.currentTimeMillis();
             if (now >= nextLookTime) {
                 pickRandomFacing();
                 
@@ -1643,18 +1645,6 @@ public class Enemy {
         return collision.checkCollision(test);
     }
 
-    private boolean hasLineOfSight(Collision collision, int x1, int y1, int x2, int y2) {
-        int samples = Math.max(4, (int)(Math.hypot(x2-x1, y2-y1) / 16));
-        for (int i = 1; i <= samples; i++) {
-            double t = (double)i / (double)samples;
-            int sx = (int)(x1 + (x2 - x1) * t);
-            int sy = (int)(y1 + (y2 - y1) * t);
-            Rectangle probe = new Rectangle(sx-4, sy-4, 8, 8);
-            if (collision.checkCollision(probe)) return false;
-        }
-        return true;
-    }
-    
     private void updateHitbox() {
         if (useCustomEnemy) {
             bodyHitbox.x = x + (customWidth - bodyHitboxWidth) / 2;
@@ -1666,7 +1656,6 @@ public class Enemy {
     }
     
     private void updateCooldowns() {
-        long now = System.currentTimeMillis();
         
         if (meleeOnCooldown && now - meleeLastTime >= meleeCooldown) {
             meleeOnCooldown = false;
@@ -1678,25 +1667,14 @@ public class Enemy {
     }
 
     private void regenerateMana() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime % 1000 < 17) {
+        if (now - lastManaRegenTime >= manaRegenInterval) {
+            lastManaRegenTime = now;
             if (currentMana < maxMana) {
                 currentMana += 1;
             }
         }
     }
     
-    private void updateProjectiles(Collision collision) {
-        List<EnemyProjectile> deadProjectiles = new ArrayList<>();
-        for (EnemyProjectile p : projectiles) {
-            p.update(collision);
-            if (!p.alive) {
-                deadProjectiles.add(p);
-            }
-        }
-        projectiles.removeAll(deadProjectiles);
-    }
-
     public void clearPlayerMemory() {
         // Reset enemy state back to patrol
         this.state = State.PATROL;
@@ -1713,7 +1691,7 @@ public class Enemy {
             currentHealth = 0;
             alive = false;
             if (autoRespawn) {
-                deathTime = System.currentTimeMillis();
+                deathTime = now;
             }
         }
         
@@ -1740,156 +1718,49 @@ public class Enemy {
         rangeOnCooldown = false;
         hasSeenPlayer = false;
         state = State.PATROL;
-        projectiles.clear();
         x = spawnX;
         y = spawnY;
         updateHitbox();
         vx = 0;
         vy = 0;
+        // Shots fired before dying disappear with the old life
+        if (projectiles != null) projectiles.clearSource(this);
     }
 
     // ========================================
     // RENDERING
     // ========================================
     
-    public void draw(Graphics2D g, int camX, int camY) {
+    // Copies what a frame draws of this enemy (sprite, bars, debug shapes) into the snapshot
+    public void writeSnapshot(RenderSnapshot s) {
         if (!alive) return;
         
-        int drawX = x - camX;
-        int drawY = y - camY;
-        
-        // If the enemy size is being customize, otherwise use default
-        int renderWidth = useCustomEnemy ? customWidth : width;
-        int renderHeight = useCustomEnemy ? customHeight : height; 
-        
-        // Draw sprite
-        if (enemyCurrentFrame != null) {
-            g.drawImage(enemyCurrentFrame, drawX, drawY, renderWidth, renderHeight, null);
-        }
-        
-        // Draw health
-        if (hideHealthBars) {
-            g.setColor(Color.WHITE);
-            g.setFont(new Font("Arial", Font.BOLD, 12));
-            String healthText = enemyType + " HP: " + currentHealth;
-            g.drawString(healthText, drawX - 32, drawY);
-        } else {
-            drawHealthAndManaBars(g, drawX, drawY);
-        }
-        
-        // Draw debug visuals
-        drawDebugVisuals(g, camX, camY);
-        
-        // Draw projectiles
-        List<EnemyProjectile> projCopy = new ArrayList<>(projectiles);
-        for (EnemyProjectile p : projCopy) {
-            p.draw(g, camX, camY);
-        }
-    }
-    
-    private void drawHealthAndManaBars(Graphics2D g, int drawX, int drawY) {
-        int barWidth = 50;
-        int barHeight = 8;
-        int barOffsetY = 50;
-        
-        // Health bar
-        double healthPercent = (double) currentHealth / maxHealth;
-        int healthFillWidth = (int) (barWidth * healthPercent);
-        
-        g.setColor(new Color(80, 0, 0)); // Dark red background
-        g.fillRect(drawX + (width / 2 - barWidth / 2), drawY + barOffsetY, barWidth, barHeight);
-        
-        g.setColor(new Color(220, 20, 20)); // Bright red for health
-        g.fillRect(drawX + (width / 2 - barWidth / 2), drawY + barOffsetY, healthFillWidth, barHeight);
-        
-        g.setColor(Color.BLACK);
-        g.drawRect(drawX + (width / 2 - barWidth / 2), drawY + barOffsetY, barWidth, barHeight);
-        
-        // Mana bar
-        double manaPercent = (double) currentMana / maxMana;
-        int manaFillWidth = (int) (barWidth * manaPercent);
-        int manaOffsetY = barOffsetY + barHeight + 4;
-        
-        g.setColor(new Color(0, 0, 80)); // Dark blue background
-        g.fillRect(drawX + (width / 2 - barWidth / 2), drawY + manaOffsetY, barWidth, barHeight);
-        
-        g.setColor(new Color(20, 120, 220)); // Bright blue for mana
-        g.fillRect(drawX + (width / 2 - barWidth / 2), drawY + manaOffsetY, manaFillWidth, barHeight);
-        
-        g.setColor(Color.BLACK);
-        g.drawRect(drawX + (width / 2 - barWidth / 2), drawY + manaOffsetY, barWidth, barHeight);
-    }
-    
-    private void drawDebugVisuals(Graphics2D g, int camX, int camY) {
-        
-        // Patrol area
-        if (patrolArea != null) {
-            g.setColor(new Color(95, 255, 98, 60)); // Semi-transparent green
-            g.fillRect(
-                patrolArea.x - camX, patrolArea.y - camY,
-                patrolArea.width, patrolArea.height
-            );
-            g.setColor(new Color(95, 250, 98)); // Solid green border
-            g.drawRect(
-                patrolArea.x - camX, patrolArea.y - camY,
-                patrolArea.width, patrolArea.height
-            );
-        }
-
-        // Body hitbox
-        g.setColor(Color.RED);
-        g.drawRect(
-            bodyHitbox.x - camX, bodyHitbox.y - camY,
-            bodyHitbox.width, bodyHitbox.height
-        );
-          
-        // Range indicators
-        drawRangeIndicators(g, camX, camY);
-    }
-    
-    private void drawRangeIndicators(Graphics2D g, int camX, int camY) {
-        int centerX = x + width/2;
-        int centerY = y + height/2;
-        
-        // Sight range
-        g.setColor(Color.BLACK);
-        g.drawOval(
-            centerX - sightRange - camX,
-            centerY - sightRange - camY,
-            sightRange * 2, sightRange * 2
-        );
-        
-        // Melee range enter
-        g.setColor(Color.BLACK);
-        g.drawOval(
-            centerX - meleeRangeEnter - camX,
-            centerY - meleeRangeEnter - camY,
-            meleeRangeEnter * 2, meleeRangeEnter * 2
-        );
-        
-        // Melee range exit
-        g.setColor(Color.BLACK);
-        g.drawOval(
-            centerX - meleeRangeExit - camX,
-            centerY - meleeRangeExit - camY,
-            meleeRangeExit * 2, meleeRangeExit * 2
-        );
-        
-        // Range attack enter
-        g.setColor(Color.BLACK);
-        g.drawOval(
-            centerX - rangeAttackRangeEnter - camX,
-            centerY - rangeAttackRangeEnter - camY,
-            rangeAttackRangeEnter * 2, rangeAttackRangeEnter * 2
-        );
-        
-        // Range attack exit
-        g.setColor(Color.BLACK);
-        g.drawOval(
-            centerX - rangeAttackRangeExit - camX,
-            centerY - rangeAttackRangeExit - camY,
-            rangeAttackRangeExit * 2, rangeAttackRangeExit * 2
-        );
+        RenderSnapshot.EnemyView v = s.addEnemy();
+        v.prevX = snapshotX == Integer.MIN_VALUE ? x : snapshotX; // For render interpolation
+        v.prevY = snapshotX == Integer.MIN_VALUE ? y : snapshotY;
+        snapshotX = x;
+        snapshotY = y;
+        v.x = x;
+        v.y = y;
+        v.width = width;
+        v.height = height;
+        v.renderWidth = getRenderWidth();
+        v.renderHeight = getRenderHeight();
+        v.frame = enemyCurrentFrame;
+        v.type = enemyType;
+        v.hideHealthBars = hideHealthBars;
+        v.health = currentHealth;
+        v.maxHealth = maxHealth;
+        v.mana = currentMana;
+        v.maxMana = maxMana;
+        v.body.setBounds(bodyHitbox);
+        v.hasPatrol = patrolArea != null;
+        if (v.hasPatrol) v.patrol.setBounds(patrolArea);
+        v.sightRange = sightRange;
+        v.meleeRangeEnter = meleeRangeEnter;
+        v.meleeRangeExit = meleeRangeExit;
+        v.rangeAttackRangeEnter = rangeAttackRangeEnter;
+        v.rangeAttackRangeExit = rangeAttackRangeExit;
     }
 
     // ========================================
@@ -1903,6 +1774,8 @@ public class Enemy {
         meleeHitbox = null;
         return r;
     }
+    public void setPlayerInSight(boolean inSight) { this.playerInSight = inSight; }
+    public int getSightRange() { return sightRange; }
     public boolean hasSeenPlayerEver() { return hasSeenPlayer; }
     public boolean canCurrentlySeePlayer() { return canSeePlayer; }
     public boolean isCurrentlySearching() { return isSearching; }
@@ -1910,6 +1783,9 @@ public class Enemy {
     public int getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    // Sprite draw size: the custom size when set, otherwise the base size
+    public int getRenderWidth() { return useCustomEnemy ? customWidth : width; }
+    public int getRenderHeight() { return useCustomEnemy ? customHeight : height; }
     public String getCurrentDirection() { return currentDirection; }
     public State getState() { return state; }
     public int getCurrentHealth() { return currentHealth; }
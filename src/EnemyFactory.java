@@ -1,7 +1,5 @@
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class EnemyFactory {
 
@@ -84,7 +82,7 @@ public class EnemyFactory {
     
     private static void loadDummyAnimations(Enemy enemy) throws IOException {
         // Load dummy idle animation frames
-        BufferedImage[] dummyFrames = loadAnimation("resources\\Enemies\\Dummy\\Dummy", 3);
+        BufferedImage[] dummyFrames = loadAnimation(enemy, "resources\\Enemies\\Dummy\\Dummy", 3);
         
         // Set initial frame
         enemy.enemyCurrentFrame = dummyFrames[0];
@@ -92,24 +90,24 @@ public class EnemyFactory {
 
     private static void loadBanditAnimations(Enemy enemy) throws IOException {
         // Movement animations
-        enemy.upMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Back\\bandit_back", 8);
-        enemy.downMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Front\\bandit_front", 8);
-        enemy.leftMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Left\\bandit_left", 8);
-        enemy.rightMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Right\\bandit_right", 8);
-        enemy.upLeftMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Upper_Left\\bandit_U_left", 8);
-        enemy.upRightMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Upper_Right\\bandit_U_right", 8);
-        enemy.downLeftMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Lower_Left\\bandit_L_left", 8);
-        enemy.downRightMove = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Movement\\Lower_Right\\bandit_L_right", 8);
+        enemy.upMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Back\\bandit_back", 8);
+        enemy.downMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Front\\bandit_front", 8);
+        enemy.leftMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Left\\bandit_left", 8);
+        enemy.rightMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Right\\bandit_right", 8);
+        enemy.upLeftMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Upper_Left\\bandit_U_left", 8);
+        enemy.upRightMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Upper_Right\\bandit_U_right", 8);
+        enemy.downLeftMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Lower_Left\\bandit_L_left", 8);
+        enemy.downRightMove = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Movement\\Lower_Right\\bandit_L_right", 8);
         
         // Melee animations
-        enemy.upMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\back\\b_back", 4);
-        enemy.downMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\front\\b_front", 4);
-        enemy.leftMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\left\\b_left", 4);
-        enemy.rightMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\right\\b_right", 4);
-        enemy.upLeftMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\upper_left\\b_Uleft", 4);
-        enemy.upRightMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\upper_right\\b_Uright", 4);
-        enemy.downLeftMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\lower_left\\b_LLeft", 4);
-        enemy.downRightMelee = loadAnimation("resources\\Enemies\\Bandit\\Bandit_Attack\\lower_right\\b_Lright", 4);
+        enemy.upMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\back\\b_back", 4);
+        enemy.downMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\front\\b_front", 4);
+        enemy.leftMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\left\\b_left", 4);
+        enemy.rightMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\right\\b_right", 4);
+        enemy.upLeftMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\upper_left\\b_Uleft", 4);
+        enemy.upRightMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\upper_right\\b_Uright", 4);
+        enemy.downLeftMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\lower_left\\b_LLeft", 4);
+        enemy.downRightMelee = loadAnimation(enemy, "resources\\Enemies\\Bandit\\Bandit_Attack\\lower_right\\b_Lright", 4);
         
         // Set initial frame
         enemy.enemyCurrentFrame = enemy.downMove != null ? enemy.downMove[3] : null;
@@ -117,24 +115,24 @@ public class EnemyFactory {
     
     private static void loadHighMageAnimations(Enemy enemy) throws IOException {
         // Movement animations
-        enemy.upMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\back\\hm_back", 8);
-        enemy.downMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\front\\hm_front", 8);
-        enemy.leftMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\left\\hm_left", 8);
-        enemy.rightMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\right\\hm_right", 8);
-        enemy.upLeftMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\upper_left\\hm_ULeft", 8);
-        enemy.upRightMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\upper_right\\hm_URight", 8);
-        enemy.downLeftMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\lower_left\\hm_LLeft", 8);
-        enemy.downRightMove = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Walking\\lower_right\\hm_LRight", 8);
+        enemy.upMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\back\\hm_back", 8);
+        enemy.downMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\front\\hm_front", 8);
+        enemy.leftMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\left\\hm_left", 8);
+        enemy.rightMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\right\\hm_right", 8);
+        enemy.upLeftMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\upper_left\\hm_ULeft", 8);
+        enemy.upRightMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\upper_right\\hm_URight", 8);
+        enemy.downLeftMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\lower_left\\hm_LLeft", 8);
+        enemy.downRightMove = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Walking\\lower_right\\hm_LRight", 8);
         
         // Ranged attack animations
-        enemy.upRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\back\\Hm_back", 5);
-        enemy.downRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\front\\Hm_front", 5);
-        enemy.leftRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\left\\Hm_Left", 5);
-        enemy.rightRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\right\\Hm_Right", 5);
-        enemy.upLeftRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\upper_left\\Hm_ULeft", 5);
-        enemy.upRightRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\upper_right\\Hm_URight", 5);
-        enemy.downLeftRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\lower_left\\Hm_LLeft", 5);
-        enemy.downRightRange = loadAnimation("resources\\Enemies\\High_Mage\\High_Mage_Attack\\lower_right\\Hm_LRight", 5);
+        enemy.upRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\back\\Hm_back", 5);
+        enemy.downRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\front\\Hm_front", 5);
+        enemy.leftRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\left\\Hm_Left", 5);
+        enemy.rightRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\right\\Hm_Right", 5);
+        enemy.upLeftRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\upper_left\\Hm_ULeft", 5);
+        enemy.upRightRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\upper_right\\Hm_URight", 5);
+        enemy.downLeftRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\lower_left\\Hm_LLeft", 5);
+        enemy.downRightRange = loadAnimation(enemy, "resources\\Enemies\\High_Mage\\High_Mage_Attack\\lower_right\\Hm_LRight", 5);
         
         // Set initial frame
         enemy.enemyCurrentFrame = enemy.downMove != null ? enemy.downMove[3] : null;
@@ -142,45 +140,44 @@ public class EnemyFactory {
 
     private static void loadMusketeerAnimations(Enemy enemy) throws IOException {
         // Movement animations
-        enemy.upMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\back\\musk_back", 8);
-        enemy.downMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\front\\musk_front", 8);
-        enemy.leftMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\left\\musk_left", 8);
-        enemy.rightMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\right\\musk_right", 8);
-        enemy.upLeftMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\upper_left\\musk_Uleft", 8);
-        enemy.upRightMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\upper_right\\musk_URight", 8);
-        enemy.downLeftMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\lower_left\\musk_LLeft", 8);
-        enemy.downRightMove = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Walking\\lower_right\\musk_LRight", 8);
+        enemy.upMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\back\\musk_back", 8);
+        enemy.downMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\front\\musk_front", 8);
+        enemy.leftMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\left\\musk_left", 8);
+        enemy.rightMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\right\\musk_right", 8);
+        enemy.upLeftMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\upper_left\\musk_Uleft", 8);
+        enemy.upRightMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\upper_right\\musk_URight", 8);
+        enemy.downLeftMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\lower_left\\musk_LLeft", 8);
+        enemy.downRightMove = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Walking\\lower_right\\musk_LRight", 8);
         
         // Melee attack animations
-        enemy.upMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\back\\M_back", 4);
-        enemy.downMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\front\\M_front", 4);
-        enemy.leftMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\left\\M_left", 4);
-        enemy.rightMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\right\\M_right", 4);
-        enemy.upLeftMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\upper_left\\M_ULeftt", 4);
-        enemy.upRightMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\upper_right\\M_URight", 4);
-        enemy.downLeftMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\lower_left\\M_LLeft", 4);
-        enemy.downRightMelee = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\lower_right\\M_LRight", 4);
+        enemy.upMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\back\\M_back", 4);
+        enemy.downMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\front\\M_front", 4);
+        enemy.leftMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\left\\M_left", 4);
+        enemy.rightMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\right\\M_right", 4);
+        enemy.upLeftMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\upper_left\\M_ULeftt", 4);
+        enemy.upRightMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\upper_right\\M_URight", 4);
+        enemy.downLeftMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\lower_left\\M_LLeft", 4);
+        enemy.downRightMelee = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Melee\\lower_right\\M_LRight", 4);
         
         // Range attack animations
-        enemy.upRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\back\\M_back", 4);
-        enemy.downRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\front\\M_front", 4);
-        enemy.leftRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\left\\M_left", 4);
-        enemy.rightRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\right\\M_Right", 4);
-        enemy.upLeftRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\upper_left\\M_ULeft", 4);
-        enemy.upRightRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\upper_right\\M_URight", 4);
-        enemy.downLeftRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\lower_left\\M_LLeft", 4);
-        enemy.downRightRange = loadAnimation("resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\lower_right\\M_LRight", 4);
+        enemy.upRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\back\\M_back", 4);
+        enemy.downRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\front\\M_front", 4);
+        enemy.leftRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\left\\M_left", 4);
+        enemy.rightRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\right\\M_Right", 4);
+        enemy.upLeftRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\upper_left\\M_ULeft", 4);
+        enemy.upRightRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\upper_right\\M_URight", 4);
+        enemy.downLeftRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\lower_left\\M_LLeft", 4);
+        enemy.downRightRange = loadAnimation(enemy, "resources\\Enemies\\Musketeer\\Musketeer_Attack\\Ranged\\lower_right\\M_LRight", 4);
         
         // Set initial frame
         enemy.enemyCurrentFrame = enemy.downMove != null ? enemy.downMove[3] : null;
     }
 
-    private static BufferedImage[] loadAnimation(String basePath, int frameCount) throws IOException {
-        BufferedImage[] frames = new BufferedImage[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            String path = basePath + (i + 1) + ".png";
-            frames[i] = ImageIO.read(new File(path));
-        }
+    // Frames are decoded once per process and shared by every enemy of the same type; their copies
+    // at the enemy's draw size are built here too, so the first frame drawn is a plain lookup
+    private static BufferedImage[] loadAnimation(Enemy enemy, String basePath, int frameCount) throws IOException {
+        BufferedImage[] frames = SpriteCache.getAnimation(basePath, frameCount);
+        SpriteCache.prescale(frames, enemy.getRenderWidth(), enemy.getRenderHeight());
         return frames;
     }
 
@@ -0,0 +1,185 @@
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+public class EnemyGrid {
+
+    // ========================================
+    // GRID SETTINGS
+    // ========================================
+
+    // Uniform grid over the world, rebuilt once per tick from enemy centers. Used as the broadphase
+    // for enemy vision and for every hit test against enemies (projectiles, player melee).
+    // Laid out like a counting sort: cellStart[c]..cellStart[c + 1] indexes into cellEnemies.
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private Enemy[] cellEnemies = new Enemy[64];
+    private int[] enemyCell = new int[64];
+
+    // Enemies are bucketed by sprite center, but hitboxes can sit off-center (custom sized enemies).
+    // Rectangle queries widen their cell range by the largest center-to-hitbox-edge distance seen.
+    private int maxHitboxReach = 0;
+
+    public EnemyGrid(int worldWidth, int worldHeight, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (worldWidth + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (worldHeight + cellSize - 1) / cellSize);
+        this.cellStart = new int[cols * rows + 1];
+        this.cellFill = new int[cols * rows];
+    }
+
+    // ========================================
+    // REBUILD (once per tick)
+    // ========================================
+
+    // Buckets every living enemy by its center. No allocation once the arrays have grown to fit.
+    public void rebuild(List<Enemy> enemies) {
+        int count = enemies.size();
+        if (enemyCell.length < count) {
+            enemyCell = new int[Math.max(count, enemyCell.length * 2)];
+            cellEnemies = new Enemy[enemyCell.length];
+        }
+
+        Arrays.fill(cellStart, 0);
+        maxHitboxReach = 0;
+        for (int i = 0; i < count; i++) {
+            Enemy en = enemies.get(i);
+            if (!en.isAlive()) {
+                enemyCell[i] = -1;
+                continue;
+            }
+            int centerX = en.getX() + en.getWidth() / 2;
+            int centerY = en.getY() + en.getHeight() / 2;
+            int cell = cellOf(centerX, centerY);
+            enemyCell[i] = cell;
+            cellStart[cell + 1]++;
+
+            Rectangle hb = en.getBodyHitbox();
+            int reachX = Math.max(Math.abs(hb.x - centerX), Math.abs(hb.x + hb.width - centerX));
+            int reachY = Math.max(Math.abs(hb.y - centerY), Math.abs(hb.y + hb.height - centerY));
+            maxHitboxReach = Math.max(maxHitboxReach, Math.max(reachX, reachY));
+        }
+
+        // Prefix sum turns counts into start offsets
+        for (int c = 0; c < cols * rows; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+        for (int i = 0; i < count; i++) {
+            int cell = enemyCell[i];
+            if (cell >= 0) {
+                cellEnemies[cellFill[cell]++] = enemies.get(i);
+            }
+        }
+
+        // Drop stale references past the live range
+        for (int i = cellStart[cols * rows]; i < cellEnemies.length && cellEnemies[i] != null; i++) {
+            cellEnemies[i] = null;
+        }
+    }
+
+    // ========================================
+    // QUERIES
+    // ========================================
+
+    // Collects living enemies whose center is within radius of (centerX, centerY).
+    // Uses squared distances only. The out list is cleared first and reused by the caller.
+    public void queryRadius(int centerX, int centerY, int radius, List<Enemy> out) {
+        out.clear();
+        long radiusSq = (long) radius * radius;
+
+        int col0 = clampCol(Math.floorDiv(centerX - radius, cellSize));
+        int col1 = clampCol(Math.floorDiv(centerX + radius, cellSize));
+        int row0 = clampRow(Math.floorDiv(centerY - radius, cellSize));
+        int row1 = clampRow(Math.floorDiv(centerY + radius, cellSize));
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    Enemy en = cellEnemies[i];
+                    if (!en.isAlive()) continue; // Can die after the rebuild (earlier hits this tick)
+                    long dx = (en.getX() + en.getWidth() / 2) - centerX;
+                    long dy = (en.getY() + en.getHeight() / 2) - centerY;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(en);
+                    }
+                }
+            }
+        }
+    }
+
+    // Collects living enemies whose body hitbox overlaps the rectangle (same test as Rectangle.intersects).
+    // The out list is cleared first and reused by the caller.
+    public void queryRect(Rectangle area, List<Enemy> out) {
+        out.clear();
+        if (area.width <= 0 || area.height <= 0) return;
+
+        int col0 = clampCol(Math.floorDiv(area.x - maxHitboxReach, cellSize));
+        int col1 = clampCol(Math.floorDiv(area.x + area.width - 1 + maxHitboxReach, cellSize));
+        int row0 = clampRow(Math.floorDiv(area.y - maxHitboxReach, cellSize));
+        int row1 = clampRow(Math.floorDiv(area.y + area.height - 1 + maxHitboxReach, cellSize));
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    Enemy en = cellEnemies[i];
+                    if (en.isAlive() && area.intersects(en.getBodyHitbox())) {
+                        out.add(en);
+                    }
+                }
+            }
+        }
+    }
+
+    // First living enemy whose body hitbox overlaps the box, or null. Allocation-free variant of
+    // queryRect for callers that stop at one hit (projectiles).
+    public Enemy findFirstOverlap(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return null;
+
+        int col0 = clampCol(Math.floorDiv(x - maxHitboxReach, cellSize));
+        int col1 = clampCol(Math.floorDiv(x + width - 1 + maxHitboxReach, cellSize));
+        int row0 = clampRow(Math.floorDiv(y - maxHitboxReach, cellSize));
+        int row1 = clampRow(Math.floorDiv(y + height - 1 + maxHitboxReach, cellSize));
+
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    Enemy en = cellEnemies[i];
+                    if (!en.isAlive()) continue; // Can die after the rebuild (earlier hits this tick)
+
+                    Rectangle hb = en.getBodyHitbox();
+                    if (hb.width > 0 && hb.height > 0
+                            && x < hb.x + hb.width && x + width > hb.x
+                            && y < hb.y + hb.height && y + height > hb.y) {
+                        return en;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    // Positions outside the world are clamped into the border cells
+    private int cellOf(int px, int py) {
+        return clampRow(Math.floorDiv(py, cellSize)) * cols + clampCol(Math.floorDiv(px, cellSize));
+    }
+
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
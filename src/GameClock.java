@@ -0,0 +1,48 @@
+public class GameClock {
+
+    // ========================================
+    // TICK TIME
+    // ========================================
+
+    // Simulation time only moves when advance() is called (once per tick by GameWorld),
+    // so every system sees the same "now" for the whole tick and runs are reproducible.
+    private final long tickNanos;
+    private long tickCount = 0;
+    private long timeNanos = 0;
+    private long timeMillis = 0;
+
+    // ========================================
+    // PAUSE & TIME SCALE
+    // ========================================
+
+    // Both are read by the game loop: paused = no ticks, timeScale = ticks per real second multiplier.
+    // The tick length itself never changes, which keeps the simulation deterministic.
+    private volatile boolean paused = false;
+    private volatile double timeScale = 1.0;
+
+    public GameClock(int ticksPerSecond) {
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    // Moves simulation time forward by exactly one tick
+    public void advance() {
+        tickCount++;
+        timeNanos += tickNanos;
+        timeMillis = timeNanos / 1_000_000L;
+    }
+
+    // Current tick time in milliseconds (replacement for System.currentTimeMillis() in game logic)
+    public long millis() { return timeMillis; }
+    public long nanos() { return timeNanos; }
+    public long getTickCount() { return tickCount; }
+    public long getTickNanos() { return tickNanos; }
+
+    public boolean isPaused() { return paused; }
+    public void setPaused(boolean paused) { this.paused = paused; }
+    public void togglePause() { paused = !paused; }
+
+    public double getTimeScale() { return timeScale; }
+    public void setTimeScale(double scale) {
+        if (scale > 0) this.timeScale = scale; // Ignore zero/negative, use setPaused to stop time
+    }
+}
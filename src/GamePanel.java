@@ -1,80 +1,115 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JPanel;
 
 public class GamePanel extends JPanel implements Runnable {
 
     // ========================================
-    // SCREEN & WORLD SETTINGS
+    // SCREEN SETTINGS
     // ========================================
 
     final int screenWidth = 1080;
     final int screenHeight = 720;
-    final int worldWidth = 14720;
-    final int worldHeight = 15280;
+    private final Color backgroundColor = Color.DARK_GRAY;
     
     // ========================================
     // GAME SYSTEMS
     // ========================================
 
+    // Simulation state lives in the GameWorld; the panel adds input, camera and rendering.
+    // world stays null (loading screen) until the required assets are in; it is published last.
+    private volatile GameWorld world;
     private Player player;
     private Camera camera;
     private KeyHandler keyH = new KeyHandler();
     private PixelPosition pixelPosition;
-    private Collision collision;
-    private ScreenShake screenShake = new ScreenShake();
+
+    // ========================================
+    // RENDER MODE
+    // ========================================
+    
+    // Passive (default): the loop calls repaint() and Swing paints on the EDT when it chooses.
+    // Active (-Dundying.render=active): the game thread draws into a triple-buffered canvas and presents it.
+    private final boolean activeRendering = "active".equalsIgnoreCase(System.getProperty("undying.render"));
+    private ActiveRenderer activeRenderer;              // null in passive mode
+    private final long presentReportNanos = 5_000_000_000L; // How often active mode logs present latency
 
     // ========================================
     // WORLD RENDERING
     // ========================================
 
-    private BufferedImage map;
-    private BufferedImage house;
-    private BufferedImage tree;
+    // The map streams from resources/Map/map.pyramid (see MapPyramidBuilder) when it exists;
+    // otherwise the whole PNG is decoded and cut into 512x512 chunks at draw scale.
+    private final Path mapPyramidPath = Paths.get("resources", "Map", "map.pyramid");
+    private final long mapCacheBytes = 32L * 1024 * 1024;   // LRU budget for decoded map tiles
+    private volatile MapPyramid mapPyramid;                 // Also kept here for camera prefetching
+    private volatile MapChunks mapChunks;                   // Also kept here for baking the props
+    private final int mapChunkSize = 512;
+    
+    // The game thread copies each finished tick into a RenderSnapshot (triple buffered); the renderer
+    // draws only from that, so simulation and drawing never share live objects.
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final DebugOverlay debug = new DebugOverlay(System.getProperty("undying.debug"));
+    private final WorldRenderer renderer = new WorldRenderer(screenWidth, screenHeight, backgroundColor, debug);
+    private int snapshotCameraX = Integer.MIN_VALUE;      // Camera in the last snapshot (interpolation start)
+    private int snapshotCameraY;
     
     // ========================================
-    // ENEMY SYSTEM
+    // ASSET LOADING
     // ========================================
     
-    private final List<Enemy> enemies = new ArrayList<>();
+    // Images decode in parallel; the game starts once the player, the map and the enemies near
+    // the player spawn are ready. Enemies further away keep loading and join the running world.
+    private final AssetLoader assets = new AssetLoader(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    private CompletableFuture<GameWorld> worldReady;
+    private final List<GameWorld.StaticProp> props = GameWorld.defaultProps();
+    private final List<CompletableFuture<BufferedImage>> propSprites = new ArrayList<>(); // Same order as props
+    private final int nearSpawnRadius = 1200;
+    
+    // Startup metric: panel creation to the first painted game frame (-1 until then)
+    private long loadStartNanos;
+    private volatile long timeToFirstFrameMillis = -1;
     
     // ========================================
     // GAME LOOP SETTINGS
     // ========================================
 
-    private final int FPS = 60;
+    private final int FPS = 60;                         // Fixed simulation rate (ticks per second)
+    private final long tickNanos = 1_000_000_000L / FPS; // Real time per tick at time scale 1
+    private final int maxCatchUpTicks = 5;              // Ticks per loop before dropping lag (no spiral of death)
+    private final long spinWaitNanos = 1_000_000;       // Last stretch before a tick is spin-waited, not parked
+    
+    // Frames are drawn at their own rate (-Dundying.renderRate=144), interpolated between the last
+    // two ticks, so a high refresh display gets smooth motion from the fixed 60 Hz simulation
+    private final int renderRate = Math.max(1, Integer.getInteger("undying.renderRate", FPS));
+    private final long frameNanos = 1_000_000_000L / renderRate;
+    
+    // World drawn at 1/scale resolution and upscaled (-Dundying.renderScale=2 -> 540x360), or
+    // "auto" to pick the scale from the frame budget. HUD text is always full resolution.
+    private final String renderScaleSetting = System.getProperty("undying.renderScale", "1");
     private Thread gameThread;
     
-    // ========================================
-    // UI SETTINGS
-    // ========================================
+    // Measured rates (refreshed about once per second by the game loop)
+    private volatile double measuredTickRate = 0;
+    private volatile double measuredFrameRate = 0;
+    private volatile int framesPainted = 0;
     
-    private final int healthBarX = 20;
-    private final int healthBarY = 20;
-    private final int barWidth = 200;
-    private final int barHeight = 20;
-    private final int manaBarY = healthBarY + barHeight + 10;
-
     // ========================================
     // CONSTRUCTOR
     // ========================================
     
     public GamePanel() {
         initPanelSettings();
-        try {
-            loadSprites();
-            initPlayer();
-            initCamera();
-            initCollisions();
-            initEnemies();
-        } catch (IOException e) {
-            System.err.println("Failed to initialize GamePanel: " + e.getMessage());
-            e.printStackTrace();
-        }
+        startLoadingAssets();
     }
 
     // ========================================
@@ -83,36 +118,114 @@ public class GamePanel extends JPanel implements Runnable {
     
     private void initPanelSettings() {
         this.setPreferredSize(new Dimension(screenWidth, screenHeight));
-        this.setBackground(Color.DARK_GRAY);
+        this.setBackground(backgroundColor);
         this.setDoubleBuffered(true);
         this.addKeyListener(keyH);
         this.setFocusable(true);
+        
+        if (activeRendering) {
+            activeRenderer = new ActiveRenderer(screenWidth, screenHeight, 3);
+            activeRenderer.addKeyListener(keyH);
+            this.setLayout(new BorderLayout());
+            this.add(activeRenderer, BorderLayout.CENTER);
+            this.setFocusable(false); // Focus belongs to the canvas
+        }
+        
+        renderer.setRenderScale(parseRenderScale(renderScaleSetting), frameNanos);
     }
     
-    private void loadSprites() throws IOException {
-        loadWorldSprites();
+    // 0 = auto
+    private int parseRenderScale(String setting) {
+        if (setting.trim().equalsIgnoreCase("auto")) return 0;
+        try {
+            return Math.max(1, Integer.parseInt(setting.trim()));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid undying.renderScale '" + setting + "', using 1");
+            return 1;
+        }
     }
     
-    private void loadWorldSprites() throws IOException {
-        try {
-            map = ImageIO.read(new File("resources\\Map\\map_sprite.png"));
-            house = ImageIO.read(new File("resources\\Map\\House1.png"));
-            tree = ImageIO.read(new File("resources\\Map\\Tree1.png"));
-        } catch (IOException e) {
-            System.err.println("Failed to load map or obstacle sprites.");
-            throw e;
+    private void startLoadingAssets() {
+        loadStartNanos = System.nanoTime();
+        
+        // Required: the world (player sprites) and the map images
+        worldReady = assets.submit("player", true, () -> new GameWorld(FPS, true));
+        if (Files.exists(mapPyramidPath)) {
+            assets.submit("map", true, this::openMapPyramid).thenAccept(pyramid -> {
+                mapPyramid = pyramid;
+                renderer.setMapPyramid(pyramid);
+            });
+        } else {
+            assets.submit("map", true, () -> MapChunks.load("resources\\Map\\map_sprite.png",
+                GameWorld.WORLD_WIDTH + 100, GameWorld.WORLD_HEIGHT + 100, mapChunkSize)).thenAccept(chunks -> {
+                    mapChunks = chunks;
+                    renderer.setMapChunks(chunks);
+                });
+        }
+        
+        // Static props: a sprite that fails to load (already reported) just leaves its prop out
+        for (GameWorld.StaticProp prop : props) {
+            propSprites.add(assets.submit(prop.name, true, () -> SpriteCache.getImage(prop.spritePath))
+                .exceptionally(e -> null));
         }
+        
+        // Enemies: the ones near the player spawn are required, the rest stream in the background.
+        // Each is handed to the world once both it and the world exist.
+        for (GameWorld.EnemySpawn spawn : GameWorld.defaultEnemies()) {
+            long dx = spawn.x - GameWorld.PLAYER_SPAWN_X;
+            long dy = spawn.y - GameWorld.PLAYER_SPAWN_Y;
+            boolean nearSpawn = dx * dx + dy * dy <= (long) nearSpawnRadius * nearSpawnRadius;
+            
+            assets.submit(spawn.name, nearSpawn, spawn.factory)
+                .thenAcceptBoth(worldReady, (enemy, loadedWorld) -> loadedWorld.queueEnemy(enemy));
+        }
+        assets.finishSubmitting();
     }
     
-    private void initPlayer() {
-        player = new Player(220, 12980);
-        player.setSpawnPoint(220, 12980);
+    // Maps the pyramid and decodes the tiles around the player spawn, so the first frame is sharp
+    private MapPyramid openMapPyramid() throws IOException {
+        MapPyramid pyramid = MapPyramid.open(mapPyramidPath,
+            GameWorld.WORLD_WIDTH + 100, GameWorld.WORLD_HEIGHT + 100, mapCacheBytes);
+        pyramid.preload(GameWorld.PLAYER_SPAWN_X - screenWidth, GameWorld.PLAYER_SPAWN_Y - screenHeight,
+            screenWidth * 2, screenHeight * 2);
+        return pyramid;
     }
     
-    private void initCamera() {
-        camera = new Camera(screenWidth, screenHeight, worldWidth, worldHeight);
-        pixelPosition = new PixelPosition(camera);
-        this.addMouseListener(pixelPosition);
+    // Called on the game thread once every required asset is done
+    private void onAssetsReady() {
+        GameWorld loadedWorld = worldReady.join();
+        player = loadedWorld.getPlayer();
+        initCamera(loadedWorld);
+        renderer.setCollision(loadedWorld.getCollision());
+        initProps();
+        world = loadedWorld;
+        publishSnapshot(); // The renderer leaves the loading screen once the first snapshot is out
+        
+        System.out.printf("Assets ready in %d ms (%d required, %d/%d background). Sprites: %s%n",
+            (System.nanoTime() - loadStartNanos) / 1_000_000, assets.getRequiredTotal(),
+            assets.getBackgroundDone(), assets.getBackgroundTotal(), SpriteCache.getStats());
+    }
+    
+    // Footprints go into the map images once, before the first frame draws them (see PropLayer)
+    private void initProps() {
+        List<BufferedImage> sprites = new ArrayList<>();
+        for (CompletableFuture<BufferedImage> sprite : propSprites) {
+            sprites.add(sprite.join());
+        }
+        
+        PropLayer layer = new PropLayer(props, sprites);
+        if (mapPyramid != null) {
+            layer.bakeInto(mapPyramid);
+        } else if (mapChunks != null) {
+            layer.bakeInto(mapChunks);
+        }
+        renderer.setProps(layer);
+    }
+    
+    private void initCamera(GameWorld world) {
+        camera = new Camera(screenWidth, screenHeight, world.getWorldWidth(), world.getWorldHeight());
+        pixelPosition = new PixelPosition(camera, debug);
+        (activeRenderer != null ? activeRenderer : this).addMouseListener(pixelPosition);
         
         // Center camera on player at start
         camera.instantlyCenterOnCrane(
@@ -123,43 +236,6 @@ public class GamePanel extends JPanel implements Runnable {
         );
     }
     
-    private void initCollisions() {
-        collision = new Collision();
-        // Optional: Load collision map from external file
-        // collision.loadFromFile("resources\\Map\\collision_map.txt");
-        
-        // Manually defined collision obstacles
-        collision.addObstacle(675, 13680, 232, 60); // House collision box
-        collision.addObstacle(473, 13757, 25, 35);  // Tree collision box
-    }
-    
-    private void initEnemies() {
-        try {
-            // Dummy (stationary practice target)
-            Enemy dummy = EnemyFactory.createDummy(410, 13025);
-            enemies.add(dummy);
-
-            // Bandit (melee attacks only, patrols an area)
-            Enemy bandit = EnemyFactory.createBandit(300, 14550);
-            bandit.setPatrolArea(250, 14225, 300, 200);
-            enemies.add(bandit);
-            
-            // High Mage (ranged attacks only, patrols an area)
-            Enemy high_mage = EnemyFactory.createHighMage(430, 12230);
-            high_mage.setPatrolArea(430, 12230, 300, 200);
-            enemies.add(high_mage);
-            
-            // Musketeer (both melee and ranged attacks, patrols an area)
-            Enemy musketeer = EnemyFactory.createMusketeer(1353, 12864);
-            musketeer.setPatrolArea(1353, 12864, 300, 200);
-            enemies.add(musketeer);
-            
-        } catch (IOException e) {
-            System.err.println("Failed to create enemies: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
     // ========================================
     // GAME LOOP
     // ========================================
@@ -171,59 +247,157 @@ public class GamePanel extends JPanel implements Runnable {
 
     @Override
     public void run() {
-        double drawInterval = 1000000000.0 / FPS; // Nanoseconds per frame
-        double nextDrawTime = System.nanoTime() + drawInterval;
+        // Loading screen until the required assets are in
+        while (!assets.isRequiredDone()) {
+            renderFrame();
+            LockSupport.parkNanos(tickNanos);
+            if (Thread.currentThread().isInterrupted()) return;
+        }
+        onAssetsReady();
+        
+        long previousTime = System.nanoTime();
+        long accumulator = 0;
+        
+        // Rate measurement
+        long statsStartTime = previousTime;
+        int ticksSinceStats = 0;
+        int framesAtStats = framesPainted;
+        long lastPresentReport = previousTime;
+        long nextFrameTime = previousTime;
 
-        while (gameThread != null) {
-            // Update game state
-            update();
+        while (gameThread != null && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            double timeScale = world.getClock().getTimeScale();
             
-            // Render frame
-            repaint();
+            // Pause toggle (P)
+            if (keyH.pausePressed) {
+                keyH.pausePressed = false;
+                world.getClock().togglePause();
+                publishSnapshot(); // No ticks while paused, so show the flag now
+                renderFrame();
+            }
             
-            // Frame rate control
-            try {
-                double remainingTime = nextDrawTime - System.nanoTime();
-                remainingTime /= 1000000; // Convert to milliseconds
-                
-                if (remainingTime < 0) {
-                    remainingTime = 0; // Prevent negative sleep
+            // Debug overlay toggles (F3, 1-7); redraw right away in case the game is paused
+            if (keyH.debugTogglePressed || keyH.debugLayerPressed >= 0) {
+                if (keyH.debugTogglePressed) debug.toggle();
+                if (keyH.debugLayerPressed >= 0) debug.toggleLayer(keyH.debugLayerPressed);
+                keyH.debugTogglePressed = false;
+                keyH.debugLayerPressed = -1;
+                refreshDebugStats();
+                renderFrame();
+            }
+            
+            // Paused: real time passes but no simulation time is owed
+            if (world.getClock().isPaused()) {
+                accumulator = 0;
+            } else {
+                accumulator += (long) ((now - previousTime) * timeScale);
+            }
+            previousTime = now;
+            
+            // Run as many fixed-size ticks as real time allows (bounded)
+            int ticks = 0;
+            while (accumulator >= tickNanos && ticks < maxCatchUpTicks) {
+                update();
+                accumulator -= tickNanos;
+                ticks++;
+            }
+            
+            // Still behind after the cap: drop the backlog instead of trying to catch up forever
+            if (accumulator >= tickNanos) {
+                accumulator %= tickNanos;
+            }
+            ticksSinceStats += ticks;
+            
+            // Render at the render rate, independent of the ticks (nothing moves while paused)
+            boolean paused = world.getClock().isPaused();
+            if (!paused && now >= nextFrameTime) {
+                renderFrame();
+                nextFrameTime += frameNanos;
+                if (nextFrameTime <= now) {
+                    nextFrameTime = now + frameNanos; // Fell behind: skip frames rather than burst
                 }
+            }
+            
+            // Refresh measured rates about once per second
+            long statsElapsed = now - statsStartTime;
+            if (statsElapsed >= 1_000_000_000L) {
+                int frames = framesPainted;
+                measuredTickRate = ticksSinceStats * 1e9 / statsElapsed;
+                measuredFrameRate = (frames - framesAtStats) * 1e9 / statsElapsed;
+                ticksSinceStats = 0;
+                framesAtStats = frames;
+                statsStartTime = now;
+                refreshDebugStats();
                 
-                Thread.sleep((long) remainingTime);
-                nextDrawTime += drawInterval;
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+                if (activeRenderer != null) {
+                    activeRenderer.rollStats();
+                    if (now - lastPresentReport >= presentReportNanos) {
+                        lastPresentReport = now;
+                        System.out.printf("Active rendering: %.1f fps, present %.2f ms avg / %.2f ms max, frame %.2f ms avg%n",
+                            measuredFrameRate, activeRenderer.getAveragePresentMillis(),
+                            activeRenderer.getMaxPresentMillis(), activeRenderer.getAverageFrameMillis());
+                    }
+                }
+            }
+            
+            // Wait for the next tick or frame, whichever is first (accumulator is in scaled time)
+            long nextTickTime = previousTime + (long) ((tickNanos - accumulator) / timeScale);
+            waitUntil(paused ? nextTickTime : Math.min(nextTickTime, nextFrameTime));
+        }
+    }
+    
+    // Parks for the bulk of the wait, then spins the last stretch (park/sleep wake-ups are too coarse)
+    private void waitUntil(long deadline) {
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) return;
+            
+            if (remaining > spinWaitNanos) {
+                LockSupport.parkNanos(remaining - spinWaitNanos);
+            } else {
+                Thread.onSpinWait();
             }
         }
     }
+    
+    // Draws and presents on this thread (active) or schedules a Swing paint (passive)
+    private void renderFrame() {
+        if (activeRenderer != null) {
+            activeRenderer.renderFrame(getBackground(), this::render);
+        } else {
+            repaint();
+        }
+    }
+    
+    // Text for the stats layer (only built while that layer is on)
+    private void refreshDebugStats() {
+        if (!debug.isOn(DebugOverlay.STATS)) return;
+        
+        MapPyramid pyramid = mapPyramid;
+        debug.setStatsLines(new String[] {
+            String.format("Ticks %.1f/s  Frames %.1f/s  Render rate %d  Render scale %d%s", measuredTickRate,
+                measuredFrameRate, renderRate, renderer.getRenderScale(), renderer.isAutoRenderScale()
+                    ? String.format(" (auto, world draw %.0f%% of budget)", renderer.getLastRenderLoad() * 100) : ""),
+            "Objects drawn " + renderer.getLastDrawnObjects() + ", culled " + renderer.getLastCulledObjects()
+                + "  Sprites sorted " + renderer.getDrawList().getLastCommands() + " (" + renderer.getDrawList().getLastMoves()
+                + " moves, " + renderer.getDrawList().getLastStateChanges() + " state changes)",
+            "Sprites: " + SpriteCache.getStats(),
+            pyramid != null ? "Map: " + pyramid.getStats() : "Map: chunks (no pyramid)",
+            "Overlay: " + debug.describe()
+        });
+    }
+    
+    public double getMeasuredTickRate() { return measuredTickRate; }
+    public double getMeasuredFrameRate() { return measuredFrameRate; }
 
     // ========================================
     // UPDATE LOGIC
     // ========================================
     
     public void update() {
-        // Update player (movement, attacks, state, death handling)
-        player.update(keyH, collision, worldWidth, worldHeight);
-        
-        // Only update game logic if player is alive
-        if (!player.isDead()) {
-            // Update enemies
-            updateEnemies();
-            
-            // Update player projectiles and check for hits
-            updatePlayerProjectiles();
-            
-            // Update breadcrumbs
-            updatePlayerBreadcrumbs();
-        } else {
-            // Player is dead - enemies should stop attacking and return to patrol
-            for (Enemy enemy : enemies) {
-                if (enemy.hasSeenPlayerEver()) {
-                    enemy.clearPlayerMemory();
-                }
-            }
-        }
+        // Advance the simulation by one tick
+        world.update(keyH);
         
         // Update camera to smoothly follow playe
         camera.cameraOnCrane(
@@ -233,99 +407,25 @@ public class GamePanel extends JPanel implements Runnable {
             player.getcraneHeight()
         );
         
-        // Update screen shake effect
-        screenShake.update();
-    }
-
-    private void updatePlayerBreadcrumbs() {
-        // Update breadcrumb trail based on player movement
-        player.updateBreadcrumbs(enemies);
-        
-        // Clear breadcrumbs if any enemy is actively searching
-        // (prevents exploitation of the tracking system)
-        for (Enemy en : enemies) {
-            if (en.isCurrentlySearching() && !player.breadcrumbs.isEmpty()) {
-                player.clearBreadcrumbs();
-                break;
-            }
+        // Queue the map tiles the camera is heading toward
+        if (mapPyramid != null) {
+            mapPyramid.prefetch(camera.getCameraX(), camera.getCameraY(), screenWidth, screenHeight);
         }
-    }
-    
-    private void updatePlayerProjectiles() {
-        List<Projectile> projectilesToRemove = new ArrayList<>();
         
-        for (Projectile p : player.projectiles) {
-            boolean hitSomething = false;
-            
-            // Check collision with each enemy
-            for (Enemy en : enemies) {
-                if (!en.isAlive()) continue; // Skip dead enemies
-                
-                if (p.getBounds().intersects(en.getBodyHitbox())) {
-                    // Apply damage to enemy
-                    en.takeDamage(player.getcraneRangeDamage(), screenShake);
-                    p.alive = false;
-                    hitSomething = true;
-                    break; // Projectile can only hit one target
-                }
-            }
-            
-            // Mark projectile for removal if it hit something or died
-            if (hitSomething || !p.alive) {
-                projectilesToRemove.add(p);
-            }
-        }
-        
-        // Safely remove dead projectiles
-        player.projectiles.removeAll(projectilesToRemove);
+        publishSnapshot();
     }
     
-    private void updateEnemies() {
-        // Create safe copies to prevent concurrent modification
-        List<Point> safeBreadcrumbs = new ArrayList<>(player.breadcrumbs);
-        List<Enemy> enemiesCopy = new ArrayList<>(enemies);
-        
-        for (Enemy en : enemiesCopy) {
-            if (!safeBreadcrumbs.isEmpty() && en.hasSeenPlayerEver() && !en.isCurrentlySearching()) {
-                en.setBreadcrumbTrail(safeBreadcrumbs);
-            }
-            
-            // Update enemy AI, movement, and state
-            en.update(this, collision, player.getcraneBodyHitbox(), player, screenShake);
-            
-            // Check if enemy executed a melee attack this frame
-            Rectangle enemyMeleeHitbox = en.consumeMeleeHitbox();
-            if (enemyMeleeHitbox != null) {
-                if (enemyMeleeHitbox.intersects(player.getcraneBodyHitbox())) {
-                    player.cranetakeDamage(en.getMeleeDamage(), screenShake);
-                }
-            }
-            
-            // Check if player's melee attack hit this enemy
-            if (player.checkMeleeHit(en)) {
-                en.takeDamage(player.getcraneMeleeDamage(), screenShake);
-            }
-            
-            // Update enemy projectiles and check player collision
-            List<EnemyProjectile> enemyProjectilesCopy = new ArrayList<>(en.projectiles);
-            List<EnemyProjectile> enemyProjectilesToRemove = new ArrayList<>();
-            
-            for (EnemyProjectile ep : enemyProjectilesCopy) {
-                if (ep.getBounds().intersects(player.getcraneBodyHitbox())) {
-                    player.cranetakeDamage(en.getRangeDamage(), screenShake);
-                    ep.alive = false;
-                }
-                if (!ep.alive) {
-                    enemyProjectilesToRemove.add(ep);
-                }
-            }
-            
-            // Safely remove dead enemy projectiles
-            en.projectiles.removeAll(enemyProjectilesToRemove);
-        }
-        
-        // Update screen shake effect
-        screenShake.update();
+    // Copies this tick's world and camera into the back snapshot and hands it to the renderer
+    private void publishSnapshot() {
+        RenderSnapshot s = snapshots.back();
+        world.writeSnapshot(s);
+        s.cameraPrevX = snapshotCameraX == Integer.MIN_VALUE ? camera.getCameraX() : snapshotCameraX;
+        s.cameraPrevY = snapshotCameraX == Integer.MIN_VALUE ? camera.getCameraY() : snapshotCameraY;
+        s.cameraX = snapshotCameraX = camera.getCameraX();
+        s.cameraY = snapshotCameraY = camera.getCameraY();
+        s.tickRealNanos = (long) (tickNanos / world.getClock().getTimeScale());
+        s.publishedNanos = System.nanoTime();
+        snapshots.publish();
     }
 
     // ========================================
@@ -335,99 +435,56 @@ public class GamePanel extends JPanel implements Runnable {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        
-        // Get base camera position
-        int baseCamX = camera.getCameraX();
-        int baseCamY = camera.getCameraY();
-        
-        // Apply screen shake offset to camera
-        int camX = baseCamX + screenShake.getOffsetX();
-        int camY = baseCamY + screenShake.getOffsetY();
-        
-        // Render all game elements in order
-        drawWorld(g2d, camX, camY);
-        drawPlayerProjectiles(g2d, camX, camY);
-        player.drawBreadcrumbs(g, camX, camY);
-        drawEnemies(g2d, camX, camY);
-        player.draw(g2d, camX, camY);
-        drawObstacles(g2d, camX, camY);
-        drawUI(g2d);
-
-        // Draw death screen overlay (only shows when player is dead)
-        player.drawDeathUI(g2d, screenWidth, screenHeight);
+        if (activeRenderer != null) return; // The canvas covers the panel and is drawn by the game thread
         
+        Graphics2D g2d = (Graphics2D) g;
+        render(g2d);
         g2d.dispose();
     }
     
-    private void drawWorld(Graphics2D g, int camX, int camY) {
-        if (map != null) {
-            g.drawImage(map, -camX, -camY, worldWidth + 100, worldHeight + 100, null);
-        }
-    }
-    
-    private void drawPlayerProjectiles(Graphics2D g, int camX, int camY) {
-        List<Projectile> projectileCopy = new ArrayList<>(player.projectiles);
-        for (Projectile p : projectileCopy) {
-            p.draw(g, camX, camY);
-        }
-    }
-    
-    private void drawObstacles(Graphics2D g, int camX, int camY) {
-        // Draw house obstacle
-        if (house != null) {
-            g.drawImage(house, 634 - camX, 13483 - camY, 293, 280, null);
+    // One full frame, shared by both render modes (background already cleared)
+    private void render(Graphics2D g2d) {
+        RenderSnapshot snapshot = snapshots.acquire();
+        if (snapshot == null) {
+            drawLoadingScreen(g2d);
+            return;
         }
         
-        // Draw tree obstacle
-        if (tree != null) {
-            g.drawImage(tree, 334 - camX, 13483 - camY, 314, 361, null);
-        }
+        renderer.render(g2d, snapshot, snapshot.alphaAt(System.nanoTime()));
+        framesPainted++; // Only one thread renders (EDT or game thread, per mode), so a plain increment is enough
         
-        // Draw collision boxes (for debugging)
-        collision.draw(g, camX, camY);
-    }
-    
-    private void drawEnemies(Graphics2D g, int camX, int camY) {
-        List<Enemy> enemiesCopy = new ArrayList<>(enemies);
-        for (Enemy en : enemiesCopy) {
-            en.draw(g, camX, camY);
+        if (timeToFirstFrameMillis < 0) {
+            timeToFirstFrameMillis = (System.nanoTime() - loadStartNanos) / 1_000_000;
+            System.out.println("Time to first frame: " + timeToFirstFrameMillis + " ms (JVM uptime "
+                + ManagementFactory.getRuntimeMXBean().getUptime() + " ms)");
         }
     }
     
-    private void drawUI(Graphics2D g) {
-        // Only draw health/mana/cooldowns if player is alive
-        if (!player.isDead()) {
-            // Draw health and mana bars
-            player.drawHealthBar(g, healthBarX, healthBarY, barWidth, barHeight);
-            player.drawManaBar(g, healthBarX, manaBarY, barWidth, barHeight);
-            
-            // Draw attack cooldown indicators
-            drawCooldownIndicators(g);
-        }
-    }
+    public long getTimeToFirstFrameMillis() { return timeToFirstFrameMillis; }
     
-    private void drawCooldownIndicators(Graphics g) {
-        // Melee attack cooldown
-        long meleeCooldownRemaining = player.getMeleeAttackRemainingCooldown();
-        if (meleeCooldownRemaining > 0) {
-            double seconds = meleeCooldownRemaining / 1000.0;
-            g.setColor(Color.RED);
-            g.drawString(String.format("Melee CD: %.2f s", seconds), 20, 100);
-        } else {
-            g.setColor(Color.WHITE);
-            g.drawString("Melee Attack Ready!", 20, 100);
-        }
+    private static final Font LOADING_TITLE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font LOADING_STATUS_FONT = new Font("Arial", Font.PLAIN, 14);
+
+    private void drawLoadingScreen(Graphics2D g) {
+        int barW = 400;
+        int barH = 20;
+        int barX = (screenWidth - barW) / 2;
+        int barY = screenHeight / 2;
         
-        // Ranged attack cooldown
-        long rangeCooldownRemaining = player.getRangeAttackRemainingCooldown();
-        if (rangeCooldownRemaining > 0) {
-            double seconds = rangeCooldownRemaining / 1000.0;
-            g.setColor(Color.RED);
-            g.drawString(String.format("Range CD: %.2f s", seconds), 20, 120);
-        } else {
-            g.setColor(Color.WHITE);
-            g.drawString("Range Attack Ready!", 20, 120);
-        }
+        g.setColor(Color.WHITE);
+        g.setFont(LOADING_TITLE_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        g.drawString("LOADING", (screenWidth - fm.stringWidth("LOADING")) / 2, barY - 30);
+        
+        // Progress over the required assets
+        g.setColor(Color.BLACK);
+        g.fillRect(barX, barY, barW, barH);
+        g.setColor(Color.WHITE);
+        g.fillRect(barX, barY, (int) (barW * assets.getRequiredProgress()), barH);
+        g.drawRect(barX, barY, barW, barH);
+        
+        g.setFont(LOADING_STATUS_FONT);
+        g.drawString(assets.getRequiredDone() + " / " + assets.getRequiredTotal() + "  " + assets.getLastLoaded(),
+            barX, barY + barH + 20);
     }
-}
\ No newline at end of file
+}
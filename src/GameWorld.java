@@ -0,0 +1,359 @@
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class GameWorld {
+
+    // ========================================
+    // WORLD SETTINGS
+    // ========================================
+
+    public static final int WORLD_WIDTH = 14720;
+    public static final int WORLD_HEIGHT = 15280;
+    final int worldWidth = WORLD_WIDTH;
+    final int worldHeight = WORLD_HEIGHT;
+    public static final int PLAYER_SPAWN_X = 220;
+    public static final int PLAYER_SPAWN_Y = 12980;
+
+    // ========================================
+    // GAME SYSTEMS
+    // ========================================
+
+    // Everything the simulation needs and nothing Swing related, so it can also run headless
+    // (see HeadlessRunner). GamePanel owns one of these and only adds input, camera and rendering.
+    private final Player player;
+    private final Collision collision;
+    private final ScreenShake screenShake = new ScreenShake();
+    private final ProjectileSystem projectiles = new ProjectileSystem();
+    private final GameClock clock;
+
+    // ========================================
+    // ENEMY SYSTEM
+    // ========================================
+
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final EnemyGrid enemyGrid = new EnemyGrid(worldWidth, worldHeight, 256);
+    private final Queue<Enemy> pendingEnemies = new ConcurrentLinkedQueue<>(); // Loaded off-thread, added by update()
+
+    // ========================================
+    // PERCEPTION (shared enemy vision pass)
+    // ========================================
+
+    private int maxSightRange = 0;
+    private final List<Enemy> sightCandidates = new ArrayList<>();
+    private final List<Enemy> enemiesSeeingPlayer = new ArrayList<>();
+    private final List<Enemy> meleeCandidates = new ArrayList<>();
+    private final List<Point> trailAtTickStart = new ArrayList<>();
+
+    // ========================================
+    // CONSTRUCTOR
+    // ========================================
+
+    // loadSprites = false skips the player's image reads (headless runs); the simulation itself is
+    // unchanged. Only this world is affected: other worlds and the shared SpriteCache are left alone.
+    public GameWorld(int ticksPerSecond, boolean loadSprites) {
+        this.clock = new GameClock(ticksPerSecond);
+
+        player = new Player(PLAYER_SPAWN_X, PLAYER_SPAWN_Y, loadSprites);
+        player.setSpawnPoint(PLAYER_SPAWN_X, PLAYER_SPAWN_Y);
+
+        collision = new Collision();
+        initCollisions();
+    }
+
+    // ========================================
+    // INITIALIZATION METHODS
+    // ========================================
+
+    private void initCollisions() {
+        // Optional: Load collision map from external file
+        // collision.loadFromFile("resources\\Map\\collision_map.txt");
+
+        // Collision boxes of the static props (house, tree, ...)
+        for (StaticProp prop : defaultProps()) {
+            Rectangle box = prop.collisionBox;
+            if (box != null) {
+                collision.addObstacle(box.x, box.y, box.width, box.height);
+            }
+        }
+    }
+
+    // The static props of the map: sprite, where it is drawn and what blocks movement, in one place.
+    // The world only uses the collision boxes; GamePanel loads the sprites and builds a PropLayer.
+    public static List<StaticProp> defaultProps() {
+        List<StaticProp> props = new ArrayList<>();
+
+        // House (south of the spawn point)
+        props.add(new StaticProp("House", "resources\\Map\\House1.png", 634, 13483, 293, 280,
+            new Rectangle(675, 13680, 232, 60)));
+
+        // Tree (next to the house)
+        props.add(new StaticProp("Tree", "resources\\Map\\Tree1.png", 334, 13483, 314, 361,
+            new Rectangle(473, 13757, 25, 35)));
+
+        return props;
+    }
+
+    public static class StaticProp {
+        public final String name;
+        public final String spritePath;
+        public final int x, y, width, height;   // Sprite rectangle in the world (drawn at this size)
+        public final Rectangle collisionBox;    // Blocks movement; null = decoration everyone walks over
+
+        public StaticProp(String name, String spritePath, int x, int y, int width, int height, Rectangle collisionBox) {
+            this.name = name;
+            this.spritePath = spritePath;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.collisionBox = collisionBox;
+        }
+    }
+
+    // The hand-placed enemies of the map. GamePanel creates them through its AssetLoader
+    // (each create() decodes that enemy type's sprites) and hands them over with queueEnemy.
+    public static List<EnemySpawn> defaultEnemies() {
+        List<EnemySpawn> spawns = new ArrayList<>();
+
+        // Dummy (stationary practice target)
+        spawns.add(new EnemySpawn("Practice Dummy", 410, 13025, () -> EnemyFactory.createDummy(410, 13025)));
+
+        // Bandit (melee attacks only, patrols an area)
+        spawns.add(new EnemySpawn("Bandit", 300, 14550, () -> {
+            Enemy bandit = EnemyFactory.createBandit(300, 14550);
+            bandit.setPatrolArea(250, 14225, 300, 200);
+            return bandit;
+        }));
+
+        // High Mage (ranged attacks only, patrols an area)
+        spawns.add(new EnemySpawn("High Mage", 430, 12230, () -> {
+            Enemy high_mage = EnemyFactory.createHighMage(430, 12230);
+            high_mage.setPatrolArea(430, 12230, 300, 200);
+            return high_mage;
+        }));
+
+        // Musketeer (both melee and ranged attacks, patrols an area)
+        spawns.add(new EnemySpawn("Musketeer", 1353, 12864, () -> {
+            Enemy musketeer = EnemyFactory.createMusketeer(1353, 12864);
+            musketeer.setPatrolArea(1353, 12864, 300, 200);
+            return musketeer;
+        }));
+
+        return spawns;
+    }
+
+    public static class EnemySpawn {
+        public final String name;
+        public final int x, y;
+        public final AssetLoader.Task<Enemy> factory;
+
+        public EnemySpawn(String name, int x, int y, AssetLoader.Task<Enemy> factory) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.factory = factory;
+        }
+    }
+
+    // Safe from any thread: the enemy joins the world at the start of the next tick
+    public void queueEnemy(Enemy en) {
+        pendingEnemies.add(en);
+    }
+
+    public void addEnemy(Enemy en) {
+        join(en);
+        enemyGrid.rebuild(enemies);
+    }
+
+    // Adds an enemy without re-bucketing; the caller rebuilds the grid before it is queried
+    private void join(Enemy en) {
+        enemies.add(en);
+
+        // Perception only has to look this far around the player
+        maxSightRange = Math.max(maxSightRange, en.getSightRange());
+    }
+
+    // ========================================
+    // UPDATE LOGIC
+    // ========================================
+
+    public void update(KeyHandler keyH) {
+        // Every system reads the same tick time below
+        clock.advance();
+        screenShake.syncClock(clock);
+
+        // Enemies that finished loading in the background join now
+        boolean joined = false;
+        Enemy loaded;
+        while ((loaded = pendingEnemies.poll()) != null) {
+            join(loaded);
+            joined = true;
+        }
+
+        // Update player (movement, attacks, state, death handling)
+        boolean wasDead = player.isDead();
+        player.update(keyH, collision, projectiles, clock, worldWidth, worldHeight);
+
+        // Only update game logic if player is alive
+        if (!player.isDead()) {
+            // The grid was last built before the new enemies joined or before the player respawned;
+            // perception below queries it before this tick's rebuild
+            if (joined || wasDead) {
+                enemyGrid.rebuild(enemies);
+            }
+
+            // Work out which enemies can see the player this tick
+            updatePerception();
+
+            // Update enemies
+            updateEnemies();
+
+            // Re-bucket enemies at their new positions (broadphase for this tick's hit tests
+            // and next tick's perception)
+            enemyGrid.rebuild(enemies);
+
+            // Check if player's melee attack hit any enemy
+            resolvePlayerMelee();
+
+            // Move all projectiles, resolve hits and drop dead ones (single pass)
+            projectiles.update(collision, player, enemyGrid, screenShake);
+
+            // Update breadcrumbs
+            updatePlayerBreadcrumbs();
+        } else {
+            // Player's shots vanish on death
+            projectiles.clear(ProjectileSystem.PLAYER);
+
+            // Player is dead - enemies should stop attacking and return to patrol
+            for (Enemy enemy : enemies) {
+                if (enemy.hasSeenPlayerEver()) {
+                    enemy.clearPlayerMemory();
+                }
+            }
+        }
+
+        // Update screen shake effect
+        screenShake.update(clock);
+    }
+
+    private void updatePerception() {
+        // Clear last tick's sightings (only enemies that were flagged need resetting)
+        for (Enemy en : enemiesSeeingPlayer) {
+            en.setPlayerInSight(false);
+        }
+        enemiesSeeingPlayer.clear();
+
+        Rectangle playerHitbox = player.getcraneBodyHitbox();
+        int playerCenterX = playerHitbox.x + playerHitbox.width / 2;
+        int playerCenterY = playerHitbox.y + playerHitbox.height / 2;
+
+        // Broad phase: only enemies bucketed near the player are considered
+        enemyGrid.queryRadius(playerCenterX, playerCenterY, maxSightRange, sightCandidates);
+
+        // Narrow phase: per-enemy sight range (squared) then a raycast for line of sight
+        for (Enemy en : sightCandidates) {
+            int enemyCenterX = en.getX() + en.getWidth() / 2;
+            int enemyCenterY = en.getY() + en.getHeight() / 2;
+            long dx = playerCenterX - enemyCenterX;
+            long dy = playerCenterY - enemyCenterY;
+            long sight = en.getSightRange();
+
+            if (dx * dx + dy * dy <= sight * sight
+                    && collision.hasLineOfSight(enemyCenterX, enemyCenterY, playerCenterX, playerCenterY)) {
+                en.setPlayerInSight(true);
+                enemiesSeeingPlayer.add(en);
+            }
+        }
+    }
+
+    private void resolvePlayerMelee() {
+        Rectangle meleeHitbox = player.getMeleeHitbox();
+        if (meleeHitbox == null) return;
+
+        // Broadphase lookup instead of testing every enemy
+        enemyGrid.queryRect(meleeHitbox, meleeCandidates);
+        for (Enemy en : meleeCandidates) {
+            if (player.checkMeleeHit(en)) {
+                en.takeDamage(player.getcraneMeleeDamage(), screenShake);
+            }
+        }
+    }
+
+    private void updatePlayerBreadcrumbs() {
+        // Update breadcrumb trail based on player movement
+        player.updateBreadcrumbs(!enemiesSeeingPlayer.isEmpty());
+
+        // Clear breadcrumbs if any enemy is actively searching
+        // (prevents exploitation of the tracking system)
+        for (Enemy en : enemies) {
+            if (en.isCurrentlySearching() && !player.breadcrumbs.isEmpty()) {
+                player.clearBreadcrumbs();
+                break;
+            }
+        }
+    }
+
+    private void updateEnemies() {
+        // Trail as it was at the start of the pass (the player can die and drop it mid-loop).
+        // Only this thread touches enemies and breadcrumbs now (rendering reads the snapshot),
+        // so the list itself is iterated directly.
+        trailAtTickStart.clear();
+        trailAtTickStart.addAll(player.breadcrumbs);
+        List<Point> safeBreadcrumbs = trailAtTickStart;
+
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy en = enemies.get(i);
+            if (!safeBreadcrumbs.isEmpty() && en.hasSeenPlayerEver() && !en.isCurrentlySearching()) {
+                en.setBreadcrumbTrail(safeBreadcrumbs);
+            }
+
+            // Update enemy AI, movement, and state
+            en.update(collision, player.getcraneBodyHitbox(), player, screenShake, projectiles, clock);
+
+            // Check if enemy executed a melee attack this frame
+            Rectangle enemyMeleeHitbox = en.consumeMeleeHitbox();
+            if (enemyMeleeHitbox != null) {
+                if (enemyMeleeHitbox.intersects(player.getcraneBodyHitbox())) {
+                    player.cranetakeDamage(en.getMeleeDamage(), screenShake);
+                }
+            }
+        }
+    }
+
+    // ========================================
+    // RENDER SNAPSHOT
+    // ========================================
+
+    // Copies everything a frame draws into s (camera is added by GamePanel). Game thread only.
+    public void writeSnapshot(RenderSnapshot s) {
+        s.tick = clock.getTickCount();
+        s.paused = clock.isPaused();
+        s.shakeX = screenShake.getOffsetX();
+        s.shakeY = screenShake.getOffsetY();
+
+        player.writeSnapshot(s);
+
+        s.enemyCount = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).writeSnapshot(s);
+        }
+
+        projectiles.writeSnapshot(s);
+    }
+
+    // ========================================
+    // GETTERS
+    // ========================================
+
+    public Player getPlayer() { return player; }
+    public Collision getCollision() { return collision; }
+    public ScreenShake getScreenShake() { return screenShake; }
+    public ProjectileSystem getProjectiles() { return projectiles; }
+    public GameClock getClock() { return clock; }
+    public List<Enemy> getEnemies() { return enemies; }
+    public int getWorldWidth() { return worldWidth; }
+    public int getWorldHeight() { return worldHeight; }
+}
@@ -0,0 +1,180 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+public class HeadlessRunner {
+
+    // ========================================
+    // HEADLESS SIMULATION BENCHMARK
+    // ========================================
+
+    // Runs the GameWorld without any window, input or rendering and reports simulation throughput.
+    // Usage: java HeadlessRunner [--ticks N] [--enemies N] [--warmup N] [--seed N] [--sprites]
+    //   --ticks    measured ticks (default 10000)
+    //   --enemies  enemies scattered around the player spawn; the map's own enemies are not added (default 100)
+    //   --warmup   ticks run before measuring, lets the JIT settle (default 1000)
+    //   --seed     enemy placement seed (default 42)
+    //   --sprites  also load sprites (off by default, the simulation does not need them)
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int ticks = 10000;
+        int enemyCount = 100;
+        int warmup = 1000;
+        long seed = 42;
+        boolean sprites = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ticks" -> ticks = Integer.parseInt(args[++i]);
+                case "--enemies" -> enemyCount = Integer.parseInt(args[++i]);
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--sprites" -> sprites = true;
+                default -> {
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+        if (ticks < 1 || warmup < 0 || enemyCount < 0) {
+            System.err.println("Usage: --ticks N (>= 1), --warmup N (>= 0), --enemies N (>= 0)");
+            System.exit(1);
+        }
+
+        // This process only simulates, so sprites are off for everything it creates (enemies included)
+        SpriteCache.setEnabled(sprites);
+        GameWorld world = new GameWorld(60, sprites);
+        spawnEnemies(world, enemyCount, seed);
+        KeyHandler noInput = new KeyHandler(); // Player stands still at spawn; enemies come to it
+
+        // Warm up
+        for (int i = 0; i < warmup; i++) {
+            world.update(noInput);
+            keepPlayerAlive(world);
+        }
+
+        // Measure
+        com.sun.management.ThreadMXBean threadBean = allocationBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        long allocBefore = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+
+        long[] tickTimes = new long[ticks];
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            long t0 = System.nanoTime();
+            world.update(noInput);
+            tickTimes[i] = System.nanoTime() - t0;
+            keepPlayerAlive(world);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long allocAfter = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+        long gcCount = gcCount() - gcCountBefore;
+        long gcTime = gcTime() - gcTimeBefore;
+
+        // Report
+        Arrays.sort(tickTimes);
+        System.out.println("Headless simulation");
+        System.out.println("  enemies        : " + world.getEnemies().size());
+        System.out.println("  ticks          : " + ticks + " (+" + warmup + " warmup)");
+        System.out.printf("  ticks/sec      : %.0f%n", ticks * 1e9 / elapsed);
+        System.out.printf("  tick p50       : %.3f ms%n", percentile(tickTimes, 0.50) / 1e6);
+        System.out.printf("  tick p99       : %.3f ms%n", percentile(tickTimes, 0.99) / 1e6);
+        System.out.printf("  tick max       : %.3f ms%n", tickTimes[ticks - 1] / 1e6);
+        if (threadBean != null) {
+            System.out.printf("  alloc/tick     : %.0f bytes%n", (allocAfter - allocBefore) / (double) ticks);
+        } else {
+            System.out.println("  alloc/tick     : n/a (thread allocation counting not supported)");
+        }
+        System.out.println("  gc             : " + gcCount + " collections, " + gcTime + " ms");
+        System.out.println("  live projectiles at end: " + world.getProjectiles().getCount());
+        if (sprites) {
+            System.out.println("  sprites        : " + SpriteCache.getStats());
+        }
+    }
+
+    // ========================================
+    // SETUP
+    // ========================================
+
+    // Scatters enemies (bandits, high mages, musketeers) around the player spawn. The area grows with
+    // the count so density stays about the same as the hand-made map (roughly one enemy per 300x300).
+    static void spawnEnemies(GameWorld world, int count, long seed) {
+        Random random = new Random(seed);
+        Player player = world.getPlayer();
+        int centerX = player.getcraneX();
+        int centerY = player.getcraneY();
+        int half = (int) Math.ceil(Math.sqrt(count) * 300 / 2.0);
+
+        for (int i = 0; i < count; i++) {
+            try {
+                Enemy en = null;
+                for (int attempt = 0; attempt < 20; attempt++) {
+                    int x = clamp(centerX - half + random.nextInt(2 * half + 1), 0, world.getWorldWidth() - 192);
+                    int y = clamp(centerY - half + random.nextInt(2 * half + 1), 0, world.getWorldHeight() - 192);
+                    en = switch (i % 3) {
+                        case 0 -> EnemyFactory.createBandit(x, y);
+                        case 1 -> EnemyFactory.createHighMage(x, y);
+                        default -> EnemyFactory.createMusketeer(x, y);
+                    };
+                    if (!world.getCollision().checkCollision(en.getBodyHitbox())) break;
+                }
+                en.setPatrolArea(en.getX(), en.getY(), 300, 200);
+                world.addEnemy(en);
+            } catch (Exception e) {
+                System.err.println("Failed to create enemy: " + e.getMessage());
+            }
+        }
+    }
+
+    // A dead player pauses all enemy logic, which would make most ticks trivially cheap.
+    // Respawning right away keeps every measured tick a full simulation tick.
+    static void keepPlayerAlive(GameWorld world) {
+        if (world.getPlayer().isDead()) {
+            world.getPlayer().respawn();
+        }
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    // Nearest-rank percentile of an already sorted array
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
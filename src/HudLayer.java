@@ -0,0 +1,241 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+public class HudLayer {
+
+    // ========================================
+    // SCREEN SETTINGS
+    // ========================================
+
+    private final int screenWidth;
+    private final int screenHeight;
+
+    // ========================================
+    // UI SETTINGS
+    // ========================================
+
+    private final int healthBarX = 20;
+    private final int healthBarY = 20;
+    private final int barWidth = 200;
+    private final int barHeight = 20;
+    private final int manaBarY = healthBarY + barHeight + 10;
+    private final int barPad = 2;           // The 2px border reaches 1px outside the bar
+
+    private final int enemyBarWidth = 50;
+    private final int enemyBarHeight = 8;
+    private final int enemyBarOffsetY = 50;
+    private final int enemyManaOffsetY = enemyBarOffsetY + enemyBarHeight + 4;
+
+    private static final Color HEALTH_BACKGROUND = new Color(80, 0, 0);    // Dark red background
+    private static final Color HEALTH_FILL = new Color(220, 20, 20);       // Bright red for health
+    private static final Color MANA_BACKGROUND = new Color(0, 0, 80);      // Dark blue background
+    private static final Color MANA_FILL = new Color(20, 120, 220);        // Bright blue for mana
+    private static final Color DEATH_OVERLAY = new Color(0, 0, 0, 150);
+    private static final Color DEATH_TEXT = new Color(200, 0, 0);
+    private static final Font BAR_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final BasicStroke BAR_BORDER = new BasicStroke(2);
+
+    // ========================================
+    // CACHED IMAGES
+    // ========================================
+
+    // The HUD barely changes between frames, so everything in it is rasterized once and blitted:
+    // player bars are redrawn only when their value changes, enemy bars are kept per fill width
+    // (a 50px bar has only 51 distinct looks), and text comes from HudText glyph caches.
+    // Nothing here allocates once the caches are warm. Render thread only.
+    private final BarImage healthBar = new BarImage(HEALTH_BACKGROUND, HEALTH_FILL);
+    private final BarImage manaBar = new BarImage(MANA_BACKGROUND, MANA_FILL);
+    private final BufferedImage[][] enemyBars = new BufferedImage[enemyBarWidth + 1][enemyBarWidth + 1];
+    private final HashMap<String, String> enemyLabels = new HashMap<>(); // type -> "<type> HP: "
+
+    private final HudText readyText = new HudText(BAR_FONT, Color.WHITE, true);
+    private final HudText cooldownText = new HudText(BAR_FONT, Color.RED, true);
+    private final HudText enemyText = new HudText(BAR_FONT, Color.WHITE, false);
+    private final HudText pausedText = new HudText(new Font("Arial", Font.BOLD, 36), Color.WHITE, true);
+    private final HudText diedText = new HudText(new Font("Arial", Font.BOLD, 72), DEATH_TEXT, true);
+    private final HudText respawnText = new HudText(new Font("Arial", Font.PLAIN, 24), Color.WHITE, true);
+    private final HudText timerText = new HudText(new Font("Arial", Font.PLAIN, 20), Color.WHITE, true);
+
+    public HudLayer(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    // ========================================
+    // PLAYER UI
+    // ========================================
+
+    public void drawUI(Graphics2D g, RenderSnapshot s) {
+        // Only draw health/mana/cooldowns if player is alive
+        if (!s.playerDead) {
+            // Draw health and mana bars
+            healthBar.draw(g, healthBarY, s.playerHealth, s.playerMaxHealth);
+            manaBar.draw(g, manaBarY, s.playerMana, s.playerMaxMana);
+
+            // Draw attack cooldown indicators
+            drawCooldown(g, "Melee CD: ", "Melee Attack Ready!", s.meleeCooldownRemaining, 100);
+            drawCooldown(g, "Range CD: ", "Range Attack Ready!", s.rangeCooldownRemaining, 120);
+        }
+
+        if (s.paused) {
+            pausedText.drawLabel(g, "PAUSED", (screenWidth - pausedText.labelWidth("PAUSED")) / 2, screenHeight / 2);
+        }
+    }
+
+    // "<prefix>1.25 s" in red while cooling down (rounded to hundredths like %.2f)
+    private void drawCooldown(Graphics2D g, String prefix, String ready, long remainingMillis, int y) {
+        if (remainingMillis > 0) {
+            int x = cooldownText.drawLabel(g, prefix, 20, y);
+            x = cooldownText.drawFixed(g, (remainingMillis + 5) / 10, 2, x, y);
+            cooldownText.drawLabel(g, " s", x, y);
+        } else {
+            readyText.drawLabel(g, ready, 20, y);
+        }
+    }
+
+    public void drawDeathUI(Graphics2D g, RenderSnapshot s) {
+        if (!s.playerDead) return;
+
+        // Draw semi-transparent overlay
+        g.setColor(DEATH_OVERLAY);
+        g.fillRect(0, 0, screenWidth, screenHeight);
+
+        // Draw "YOU DIED" text
+        drawCentered(g, diedText, "YOU DIED", screenHeight / 2 - 100);
+
+        // Draw respawn instructions
+        drawCentered(g, respawnText, s.canManualRespawn ? "Press R to Respawn" : "Please wait...", screenHeight / 2);
+
+        // Draw auto-respawn timer
+        if (s.respawnRemaining > 0) {
+            long seconds = s.respawnRemaining / 1000 + 1;
+            String prefix = "Auto-respawn in: ";
+            int width = timerText.labelWidth(prefix) + timerText.numberWidth(seconds) + timerText.labelWidth("s");
+            int x = timerText.drawLabel(g, prefix, (screenWidth - width) / 2, screenHeight / 2 + 50);
+            x = timerText.drawNumber(g, seconds, x, screenHeight / 2 + 50);
+            timerText.drawLabel(g, "s", x, screenHeight / 2 + 50);
+        }
+    }
+
+    private void drawCentered(Graphics2D g, HudText text, String label, int y) {
+        text.drawLabel(g, label, (screenWidth - text.labelWidth(label)) / 2, y);
+    }
+
+    // ========================================
+    // ENEMY UI (drawX/drawY = sprite top-left on screen)
+    // ========================================
+
+    public void drawEnemyBars(Graphics2D g, RenderSnapshot.EnemyView e, int drawX, int drawY) {
+        int barX = drawX + (e.width / 2 - enemyBarWidth / 2);
+        int healthFillWidth = fillWidth(e.health, e.maxHealth);
+        int manaFillWidth = fillWidth(e.mana, e.maxMana);
+
+        BufferedImage bars = enemyBars[healthFillWidth][manaFillWidth];
+        if (bars == null) {
+            bars = renderEnemyBars(healthFillWidth, manaFillWidth);
+            enemyBars[healthFillWidth][manaFillWidth] = bars;
+        }
+        g.drawImage(bars, barX, drawY + enemyBarOffsetY, null);
+    }
+
+    // "<type> HP: <health>" above the sprite (enemies that hide their bars)
+    public void drawEnemyLabel(Graphics2D g, RenderSnapshot.EnemyView e, int drawX, int drawY) {
+        String prefix = enemyLabels.computeIfAbsent(e.type, type -> type + " HP: ");
+        int x = enemyText.drawLabel(g, prefix, drawX - 32, drawY);
+        enemyText.drawNumber(g, e.health, x, drawY);
+    }
+
+    private int fillWidth(int current, int max) {
+        int width = (int) (enemyBarWidth * ((double) current / max));
+        return Math.max(0, Math.min(enemyBarWidth, width));
+    }
+
+    // Health bar on top, mana bar below, each with a 1px black outline
+    private BufferedImage renderEnemyBars(int healthFillWidth, int manaFillWidth) {
+        BufferedImage image = SpriteCache.createCompatibleImage(enemyBarWidth + 1, enemyManaOffsetY - enemyBarOffsetY + enemyBarHeight + 1);
+        Graphics2D g = image.createGraphics();
+        int manaY = enemyManaOffsetY - enemyBarOffsetY;
+
+        g.setColor(HEALTH_BACKGROUND);
+        g.fillRect(0, 0, enemyBarWidth, enemyBarHeight);
+        g.setColor(HEALTH_FILL);
+        g.fillRect(0, 0, healthFillWidth, enemyBarHeight);
+        g.setColor(Color.BLACK);
+        g.drawRect(0, 0, enemyBarWidth, enemyBarHeight);
+
+        g.setColor(MANA_BACKGROUND);
+        g.fillRect(0, manaY, enemyBarWidth, enemyBarHeight);
+        g.setColor(MANA_FILL);
+        g.fillRect(0, manaY, manaFillWidth, enemyBarHeight);
+        g.setColor(Color.BLACK);
+        g.drawRect(0, manaY, enemyBarWidth, enemyBarHeight);
+
+        g.dispose();
+        return image;
+    }
+
+    // ========================================
+    // PLAYER BAR IMAGE
+    // ========================================
+
+    // Health or mana bar with "current / max" centered on it, redrawn only when either number changes
+    private class BarImage {
+        private final Color background;
+        private final Color fill;
+        private BufferedImage image;
+        private int current = Integer.MIN_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        BarImage(Color background, Color fill) {
+            this.background = background;
+            this.fill = fill;
+        }
+
+        void draw(Graphics2D g, int barY, int current, int max) {
+            if (image == null || current != this.current || max != this.max) {
+                this.current = current;
+                this.max = max;
+                redraw();
+            }
+            g.drawImage(image, healthBarX - barPad, barY - barPad, null);
+        }
+
+        private void redraw() {
+            if (image == null) {
+                image = SpriteCache.createCompatibleImage(barWidth + barPad * 2, barHeight + barPad * 2);
+            }
+            Graphics2D g = image.createGraphics();
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.translate(barPad, barPad);
+
+            int fillWidth = (int) ((double) current / max * barWidth);
+
+            // Draw max background
+            g.setColor(background);
+            g.fillRect(0, 0, barWidth, barHeight);
+
+            // Draw current value
+            g.setColor(fill);
+            g.fillRect(0, 0, fillWidth, barHeight);
+
+            // Draw border
+            g.setColor(Color.BLACK);
+            g.setStroke(BAR_BORDER);
+            g.drawRect(0, 0, barWidth, barHeight);
+
+            // Draw text (centered)
+            g.setColor(Color.WHITE);
+            g.setFont(BAR_FONT);
+            String text = current + " / " + max;
+            FontMetrics fm = g.getFontMetrics();
+            int textX = (barWidth - fm.stringWidth(text)) / 2;
+            int textY = ((barHeight - fm.getHeight()) / 2) + fm.getAscent();
+            g.drawString(text, textX, textY);
+            g.dispose();
+        }
+    }
+}
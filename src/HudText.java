@@ -0,0 +1,143 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+public class HudText {
+
+    // ========================================
+    // GLYPH CACHE
+    // ========================================
+
+    // One font + color, pre-rendered. Fixed strings are rasterized once into their own image; numbers
+    // are laid out from per-digit glyph images using the font's integer advances (the same positions
+    // drawString uses), so changing values cost a few blits and no String/Font/Color garbage.
+    // Render thread only.
+    private final Font font;
+    private final Color color;
+    private final boolean antialias;
+    private final FontMetrics metrics;
+    private final int ascent;
+    private final int pad;                 // Room for glyph overhang left/right of the advance
+
+    private final BufferedImage[] glyphs = new BufferedImage[128]; // ASCII, made on first use
+    private final HashMap<String, BufferedImage> labels = new HashMap<>();
+
+    public HudText(Font font, Color color, boolean antialias) {
+        this.font = font;
+        this.color = color;
+        this.antialias = antialias;
+
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scratch.createGraphics();
+        applyHints(g);
+        this.metrics = g.getFontMetrics(font);
+        g.dispose();
+
+        this.ascent = metrics.getAscent();
+        this.pad = font.getSize() / 2 + 1;
+    }
+
+    // ========================================
+    // DRAWING (x = pen start, y = baseline, like drawString)
+    // ========================================
+
+    // Fixed text; returns the pen position after it
+    public int drawLabel(Graphics2D g, String text, int x, int y) {
+        BufferedImage image = labels.get(text);
+        if (image == null) {
+            image = render(text);
+            labels.put(text, image);
+        }
+        g.drawImage(image, x - pad, y - ascent - pad, null);
+        return x + metrics.stringWidth(text);
+    }
+
+    // Non-negative integer
+    public int drawNumber(Graphics2D g, long value, int x, int y) {
+        return drawFixed(g, value, 0, x, y);
+    }
+
+    // value / 10^decimals with exactly that many decimals (e.g. 1234, 2 -> "12.34")
+    public int drawFixed(Graphics2D g, long value, int decimals, int x, int y) {
+        int digits = digitCount(value, decimals);
+        for (int i = digits - 1; i >= 0; i--) {
+            if (decimals > 0 && i == decimals - 1) {
+                x = drawChar(g, '.', x, y);
+            }
+            x = drawChar(g, (char) ('0' + digitAt(value, i)), x, y);
+        }
+        return x;
+    }
+
+    // ========================================
+    // MEASURING
+    // ========================================
+
+    public int labelWidth(String text) {
+        return metrics.stringWidth(text);
+    }
+
+    public int fixedWidth(long value, int decimals) {
+        // Digits share one advance in practically every font, but measure each to stay exact
+        int width = decimals > 0 ? metrics.charWidth('.') : 0;
+        int digits = digitCount(value, decimals);
+        for (int i = 0; i < digits; i++) {
+            width += metrics.charWidth((char) ('0' + digitAt(value, i)));
+        }
+        return width;
+    }
+
+    public int numberWidth(long value) {
+        return fixedWidth(value, 0);
+    }
+
+    public FontMetrics getMetrics() {
+        return metrics;
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private int drawChar(Graphics2D g, char c, int x, int y) {
+        BufferedImage glyph = glyphs[c];
+        if (glyph == null) {
+            glyph = render(String.valueOf(c));
+            glyphs[c] = glyph;
+        }
+        g.drawImage(glyph, x - pad, y - ascent - pad, null);
+        return x + metrics.charWidth(c);
+    }
+
+    // Text drawn at (pad, ascent + pad) into a transparent image
+    private BufferedImage render(String text) {
+        int width = Math.max(1, metrics.stringWidth(text) + pad * 2);
+        int height = metrics.getHeight() + pad * 2;
+        BufferedImage image = SpriteCache.createCompatibleImage(width, height);
+        Graphics2D g = image.createGraphics();
+        applyHints(g);
+        g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, pad, ascent + pad);
+        g.dispose();
+        return image;
+    }
+
+    private void applyHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+            antialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+    }
+
+    // Digits to print: at least one before the decimal point
+    private static int digitCount(long value, int decimals) {
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) digits++;
+        return Math.max(digits, decimals + 1);
+    }
+
+    // i-th digit from the right
+    private static int digitAt(long value, int i) {
+        for (int k = 0; k < i; k++) value /= 10;
+        return (int) (value % 10);
+    }
+}
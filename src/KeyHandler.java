@@ -8,6 +8,9 @@ public class KeyHandler implements KeyListener {
     public boolean meleeAttackPressed = false;
     public boolean rangeAttackPressed = false;
     public boolean respawnPressed;
+    public boolean pausePressed; // Set on press, cleared by the game loop once handled
+    public boolean debugTogglePressed;  // F3, same handshake as pausePressed
+    public int debugLayerPressed = -1;  // 0-6 for keys 1-7, reset to -1 by the game loop
 
     @Override
     public void keyTyped(KeyEvent e) {
@@ -31,6 +34,13 @@ public class KeyHandler implements KeyListener {
 
         // Respawn key
         if (keyUsed == KeyEvent.VK_R) respawnPressed = true;
+
+        // Pause toggle
+        if (keyUsed == KeyEvent.VK_P) pausePressed = true;
+
+        // Debug overlay (F3 = all, 1-7 = single layers)
+        if (keyUsed == KeyEvent.VK_F3) debugTogglePressed = true;
+        if (keyUsed >= KeyEvent.VK_1 && keyUsed <= KeyEvent.VK_7) debugLayerPressed = keyUsed - KeyEvent.VK_1;
     }
 
     @Override
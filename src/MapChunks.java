@@ -0,0 +1,147 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+public class MapChunks {
+
+    // ========================================
+    // CHUNK GRID
+    // ========================================
+
+    // The world map cut into fixed-size compatible images, already at draw scale. A frame only draws
+    // the chunks under the camera, so the cost follows the screen size instead of the world size.
+    private final int chunkSize;
+    private final int width;   // Drawn map size (the old drawImage target size)
+    private final int height;
+    private final int cols;
+    private final int rows;
+    private final BufferedImage[] chunks; // Row-major
+
+    // Copies shrunk by the render scale, made as chunks come into view (see WorldRenderer.submitSprite).
+    // Render thread only; dropped when the scale changes.
+    private BufferedImage[] scaledChunks;
+    private int scaledFor = 1;
+
+    // Chunks drawn by the last draw call
+    private int lastDrawnChunks = 0;
+
+    // ========================================
+    // LOADING
+    // ========================================
+
+    // Decodes the map image, cuts it and drops the source (it is not kept in the SpriteCache)
+    public static MapChunks load(String path, int drawWidth, int drawHeight, int chunkSize) throws IOException {
+        BufferedImage source = ImageIO.read(new File(path));
+        if (source == null) {
+            throw new IOException("Unsupported image format: " + path);
+        }
+        return new MapChunks(source, drawWidth, drawHeight, chunkSize);
+    }
+
+    // source is stretched to drawWidth x drawHeight, exactly like the old full-map drawImage did
+    public MapChunks(BufferedImage source, int drawWidth, int drawHeight, int chunkSize) {
+        this.chunkSize = chunkSize;
+        this.width = drawWidth;
+        this.height = drawHeight;
+        this.cols = (drawWidth + chunkSize - 1) / chunkSize;
+        this.rows = (drawHeight + chunkSize - 1) / chunkSize;
+        this.chunks = new BufferedImage[cols * rows];
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int x0 = col * chunkSize;
+                int y0 = row * chunkSize;
+                int w = Math.min(chunkSize, drawWidth - x0); // Edge chunks are cut short
+                int h = Math.min(chunkSize, drawHeight - y0);
+
+                BufferedImage chunk = SpriteCache.createCompatibleImage(w, h);
+                Graphics2D g = chunk.createGraphics();
+                g.setComposite(AlphaComposite.Src);
+                g.drawImage(source, -x0, -y0, drawWidth, drawHeight, null); // Clipped to this chunk
+                g.dispose();
+                chunks[row * cols + col] = chunk;
+            }
+        }
+    }
+
+    // Paints image at world (x, y) into the chunks it overlaps, permanently (static props, see
+    // PropLayer). Call before the first draw.
+    public void bake(BufferedImage image, int x, int y) {
+        int col0 = Math.max(0, Math.floorDiv(x, chunkSize));
+        int col1 = Math.min(cols - 1, Math.floorDiv(x + image.getWidth() - 1, chunkSize));
+        int row0 = Math.max(0, Math.floorDiv(y, chunkSize));
+        int row1 = Math.min(rows - 1, Math.floorDiv(y + image.getHeight() - 1, chunkSize));
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                Graphics2D g = chunks[row * cols + col].createGraphics();
+                g.drawImage(image, x - col * chunkSize, y - row * chunkSize, null);
+                g.dispose();
+            }
+        }
+        scaledChunks = null; // Rebuilt from the baked chunks
+    }
+
+    // ========================================
+    // RENDERING
+    // ========================================
+
+    // Draws the chunks overlapping the view rectangle (camX, camY, viewWidth, viewHeight).
+    // At scale k > 1, g draws at 1/k resolution: 1/k size copies go through it 1:1.
+    public void draw(Graphics2D g, int camX, int camY, int viewWidth, int viewHeight, int scale) {
+        int col0 = Math.max(0, Math.floorDiv(camX, chunkSize));
+        int col1 = Math.min(cols - 1, Math.floorDiv(camX + viewWidth - 1, chunkSize));
+        int row0 = Math.max(0, Math.floorDiv(camY, chunkSize));
+        int row1 = Math.min(rows - 1, Math.floorDiv(camY + viewHeight - 1, chunkSize));
+
+        int drawn = 0;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int index = row * cols + col;
+                if (scale == 1) {
+                    g.drawImage(chunks[index], col * chunkSize - camX, row * chunkSize - camY, null);
+                } else {
+                    // Edges snapped to whole low-res pixels so neighbors meet without gaps
+                    BufferedImage scaled = scaledChunk(index, scale);
+                    g.drawImage(scaled, col * chunkSize / scale * scale - camX, row * chunkSize / scale * scale - camY,
+                        scaled.getWidth() * scale, scaled.getHeight() * scale, null);
+                }
+                drawn++;
+            }
+        }
+        lastDrawnChunks = drawn;
+    }
+
+    private BufferedImage scaledChunk(int index, int scale) {
+        if (scaledChunks == null || scaledFor != scale) {
+            scaledChunks = new BufferedImage[chunks.length];
+            scaledFor = scale;
+        }
+        BufferedImage scaled = scaledChunks[index];
+        if (scaled == null) {
+            BufferedImage chunk = chunks[index];
+            int x0 = index % cols * chunkSize;
+            int y0 = index / cols * chunkSize;
+            int w = Math.max(1, (x0 + chunk.getWidth()) / scale - x0 / scale);
+            int h = Math.max(1, (y0 + chunk.getHeight()) / scale - y0 / scale);
+            scaled = SpriteCache.createCompatibleImage(w, h);
+            Graphics2D g = scaled.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(chunk, 0, 0, w, h, null);
+            g.dispose();
+            scaledChunks[index] = scaled;
+        }
+        return scaled;
+    }
+
+    // ========================================
+    // GETTERS
+    // ========================================
+
+    public int getLastDrawnChunks() { return lastDrawnChunks; }
+    public int getChunkCount() { return chunks.length; }
+    public int getChunkSize() { return chunkSize; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
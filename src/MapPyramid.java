@@ -0,0 +1,450 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public class MapPyramid {
+
+    // ========================================
+    // PYRAMID FILE (written by MapPyramidBuilder)
+    // ========================================
+
+    // The file is memory-mapped, so the OS pages tile data in on demand and nothing is read up front.
+    // Only tiles near the camera are decoded, from the level that matches the render scale (full
+    // resolution at scale 1, level 1 at scales 2-3, level 2 at 4), scaled to draw size and kept in a
+    // bounded LRU cache; the coarsest level stays resident and fills in while a tile is still decoding.
+    private final MappedByteBuffer data;
+    private final int tileSize;
+    private final int levelCount;
+    private final int[] levelWidth;      // Level L is about 1/2^L of the source size
+    private final int[] levelHeight;
+    private final int[] levelCols;       // Tile grid per level
+    private final int[] levelRows;
+    private final long[][] tileOffsets;  // [level][tile], tiles row-major
+    private final int[][] tileLengths;
+
+    private final int width;             // Drawn map size (same as MapChunks)
+    private final int height;
+    private final BufferedImage coarse;  // Smallest level, stretched over the whole map as a fallback
+
+    // ========================================
+    // TILE CACHE
+    // ========================================
+
+    // Access-ordered LinkedHashMap = LRU. Guarded by its own lock (draw on the EDT, decodes on workers).
+    // Keyed by tile index and render scale: at scale k > 1 tiles are cached 1/k the draw size (see
+    // WorldRenderer), and tiles of a scale no longer used just age out.
+    private final long cacheBudgetBytes;
+    private long cachedBytes = 0;
+    private final LinkedHashMap<Integer, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static final int SCALE_KEYS = 8;  // key = index * SCALE_KEYS + scale
+    private volatile int tileScale = 1;       // Scale of the last draw; prefetch and preload follow it
+
+    // Images painted over the map for good (static props, see PropLayer), in world coordinates.
+    // Applied to every tile as it is cached, under the cache lock. Guarded by the cache lock.
+    private final List<Stamp> stamps = new ArrayList<>();
+
+    private static class Stamp {
+        final BufferedImage image;
+        final int x, y;
+
+        Stamp(BufferedImage image, int x, int y) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    // Tiles queued or being decoded, so each is requested once
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService decoder;
+
+    // ========================================
+    // PREFETCH
+    // ========================================
+
+    private final int prefetchLookaheadTicks = 30; // Camera movement extrapolated this far ahead
+    private int lastPrefetchX = Integer.MIN_VALUE;
+    private int lastPrefetchY;
+
+    // ========================================
+    // STATS
+    // ========================================
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();      // Draws that had to use the coarse fallback
+    private final AtomicLong decodes = new AtomicLong();
+    private final AtomicLong decodeNanos = new AtomicLong();
+    private int lastDrawnTiles = 0;
+    private int lastFallbackTiles = 0;
+
+    // ========================================
+    // LOADING
+    // ========================================
+
+    public static MapPyramid open(Path path, int drawWidth, int drawHeight, long cacheBudgetBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Map pyramid too large to map: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MapPyramid(data, drawWidth, drawHeight, cacheBudgetBytes);
+        }
+    }
+
+    private MapPyramid(MappedByteBuffer data, int drawWidth, int drawHeight, long cacheBudgetBytes) throws IOException {
+        this.data = data;
+        this.width = drawWidth;
+        this.height = drawHeight;
+        this.cacheBudgetBytes = cacheBudgetBytes;
+
+        ByteBuffer header = data.duplicate();
+        if (header.getInt() != MapPyramidBuilder.MAGIC || header.getInt() != MapPyramidBuilder.VERSION) {
+            throw new IOException("Not a map pyramid (or an old version, rerun MapPyramidBuilder)");
+        }
+        header.getInt(); // Source size, same as level 0
+        header.getInt();
+        this.tileSize = header.getInt();
+        this.levelCount = header.getInt();
+
+        this.levelWidth = new int[levelCount];
+        this.levelHeight = new int[levelCount];
+        this.levelCols = new int[levelCount];
+        this.levelRows = new int[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            levelWidth[i] = header.getInt();
+            levelHeight[i] = header.getInt();
+            levelCols[i] = header.getInt();
+            levelRows[i] = header.getInt();
+        }
+
+        this.tileOffsets = new long[levelCount][];
+        this.tileLengths = new int[levelCount][];
+        for (int level = 0; level < levelCount; level++) {
+            int tiles = levelCols[level] * levelRows[level];
+            tileOffsets[level] = new long[tiles];
+            tileLengths[level] = new int[tiles];
+            for (int t = 0; t < tiles; t++) {
+                tileOffsets[level][t] = header.getLong();
+                tileLengths[level][t] = header.getInt();
+            }
+        }
+
+        int last = levelCount - 1;
+        this.coarse = SpriteCache.toCompatible(
+            decode(tileOffsets[last][0], tileLengths[last][0], levelWidth[last], levelHeight[last]));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.decoder = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread t = new Thread(runnable, "map-decoder-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    // Decodes the tiles under a view on the calling thread (used before the first frame)
+    public void preload(int viewX, int viewY, int viewWidth, int viewHeight) {
+        int scale = tileScale;
+        forEachTile(levelFor(scale), viewX, viewY, viewWidth, viewHeight, index -> loadTile(index * SCALE_KEYS + scale));
+    }
+
+    // Paints image at world (x, y, draw-size pixels) into the map for good: into the tiles cached now,
+    // every tile decoded later and the coarse fallback. Call before the first draw.
+    public void bake(BufferedImage image, int x, int y) {
+        Stamp stamp = new Stamp(image, x, y);
+        synchronized (cache) {
+            stamps.add(stamp);
+            for (Map.Entry<Integer, BufferedImage> entry : cache.entrySet()) {
+                applyStamp(entry.getValue(), entry.getKey(), stamp);
+            }
+
+            Graphics2D g = coarse.createGraphics();
+            g.scale((double) coarse.getWidth() / width, (double) coarse.getHeight() / height);
+            g.drawImage(image, x, y, null);
+            g.dispose();
+        }
+    }
+
+    // Draws a stamp onto one cached tile (key = index * SCALE_KEYS + scale, see loadTile for its size)
+    private void applyStamp(BufferedImage tile, int key, Stamp stamp) {
+        int index = key / SCALE_KEYS;
+        int scale = key % SCALE_KEYS;
+        int level = levelFor(scale);
+        int tileX = destX(level, index % levelCols[level] * tileSize) / scale;
+        int tileY = destY(level, index / levelCols[level] * tileSize) / scale;
+
+        // Stamp edges in the tile's pixels
+        int x0 = Math.floorDiv(stamp.x, scale) - tileX;
+        int y0 = Math.floorDiv(stamp.y, scale) - tileY;
+        int x1 = Math.floorDiv(stamp.x + stamp.image.getWidth(), scale) - tileX;
+        int y1 = Math.floorDiv(stamp.y + stamp.image.getHeight(), scale) - tileY;
+        if (x1 <= 0 || y1 <= 0 || x0 >= tile.getWidth() || y0 >= tile.getHeight()) return;
+
+        Graphics2D g = tile.createGraphics();
+        g.drawImage(stamp.image, x0, y0, x1 - x0, y1 - y0, null);
+        g.dispose();
+    }
+
+    // ========================================
+    // RENDERING
+    // ========================================
+
+    // Draws the map under the view rectangle (camX, camY, viewWidth, viewHeight).
+    // At scale k > 1, g draws at 1/k resolution: the cached 1/k size tiles go through it 1:1.
+    public void draw(Graphics2D g, int camX, int camY, int viewWidth, int viewHeight, int scale) {
+        tileScale = scale;
+        int level = levelFor(scale);
+        int cols = levelCols[level];
+
+        int col0 = Math.max(0, Math.floorDiv(levelX(level, camX), tileSize));
+        int col1 = Math.min(cols - 1, Math.floorDiv(levelX(level, camX + viewWidth - 1), tileSize));
+        int row0 = Math.max(0, Math.floorDiv(levelY(level, camY), tileSize));
+        int row1 = Math.min(levelRows[level] - 1, Math.floorDiv(levelY(level, camY + viewHeight - 1), tileSize));
+
+        int drawn = 0;
+        int fallback = 0;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                int index = row * cols + col;
+                int key = index * SCALE_KEYS + scale;
+                int x0 = destX(level, col * tileSize);
+                int y0 = destY(level, row * tileSize);
+
+                BufferedImage tile;
+                synchronized (cache) {
+                    tile = cache.get(key);
+                }
+                if (tile != null) {
+                    hits.incrementAndGet();
+                    if (scale == 1) {
+                        g.drawImage(tile, x0 - camX, y0 - camY, null);
+                    } else {
+                        // Edges snapped to whole low-res pixels, matching the tile size from loadTile
+                        g.drawImage(tile, x0 / scale * scale - camX, y0 / scale * scale - camY,
+                            tile.getWidth() * scale, tile.getHeight() * scale, null);
+                    }
+                } else {
+                    // Blurry stand-in from the resident coarse level until the decode lands
+                    misses.incrementAndGet();
+                    int x1 = destX(level, Math.min(levelWidth[level], (col + 1) * tileSize));
+                    int y1 = destY(level, Math.min(levelHeight[level], (row + 1) * tileSize));
+                    g.drawImage(coarse,
+                        x0 - camX, y0 - camY, x1 - camX, y1 - camY,
+                        (int) ((long) x0 * coarse.getWidth() / width), (int) ((long) y0 * coarse.getHeight() / height),
+                        (int) ((long) x1 * coarse.getWidth() / width), (int) ((long) y1 * coarse.getHeight() / height),
+                        null);
+                    request(key);
+                    fallback++;
+                }
+                drawn++;
+            }
+        }
+        lastDrawnTiles = drawn;
+        lastFallbackTiles = fallback;
+    }
+
+    // Called once per tick with the camera position: queues the tiles around the view, stretched
+    // toward where the camera is heading so they are decoded before they scroll in
+    public void prefetch(int camX, int camY, int viewWidth, int viewHeight) {
+        int dx = lastPrefetchX == Integer.MIN_VALUE ? 0 : camX - lastPrefetchX;
+        int dy = lastPrefetchX == Integer.MIN_VALUE ? 0 : camY - lastPrefetchY;
+        lastPrefetchX = camX;
+        lastPrefetchY = camY;
+
+        int aheadX = dx * prefetchLookaheadTicks;
+        int aheadY = dy * prefetchLookaheadTicks;
+        int scale = tileScale;
+        int level = levelFor(scale);
+        int margin = destX(level, tileSize) / 2; // Half a tile all around covers small turns
+        int x0 = camX + Math.min(0, aheadX) - margin;
+        int y0 = camY + Math.min(0, aheadY) - margin;
+        int x1 = camX + viewWidth + Math.max(0, aheadX) + margin;
+        int y1 = camY + viewHeight + Math.max(0, aheadY) + margin;
+        forEachTile(level, x0, y0, x1 - x0, y1 - y0, index -> request(index * SCALE_KEYS + scale));
+    }
+
+    // ========================================
+    // DECODING
+    // ========================================
+
+    private void request(int key) {
+        synchronized (cache) {
+            if (cache.containsKey(key)) return;
+        }
+        if (pending.add(key)) {
+            decoder.execute(() -> {
+                try {
+                    loadTile(key);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        }
+    }
+
+    // Decodes one tile of the scale's level, scales it to its draw-size rectangle (1/scale of it in
+    // low-res rendering) and caches it
+    private void loadTile(int key) {
+        synchronized (cache) {
+            if (cache.containsKey(key)) return;
+        }
+        int index = key / SCALE_KEYS;
+        int scale = key % SCALE_KEYS;
+        int level = levelFor(scale);
+        long start = System.nanoTime();
+        int col = index % levelCols[level];
+        int row = index / levelCols[level];
+        int lx0 = col * tileSize;
+        int ly0 = row * tileSize;
+        int lx1 = Math.min(levelWidth[level], lx0 + tileSize);
+        int ly1 = Math.min(levelHeight[level], ly0 + tileSize);
+
+        BufferedImage tile;
+        try {
+            BufferedImage source = decode(tileOffsets[level][index], tileLengths[level][index], lx1 - lx0, ly1 - ly0);
+            int w = destX(level, lx1) / scale - destX(level, lx0) / scale;
+            int h = destY(level, ly1) / scale - destY(level, ly0) / scale;
+            tile = SpriteCache.createCompatibleImage(Math.max(1, w), Math.max(1, h));
+            Graphics2D g = tile.createGraphics();
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(source, 0, 0, w, h, null);
+            g.dispose();
+        } catch (IOException e) {
+            System.err.println("Failed to decode map tile " + col + "," + row + ": " + e.getMessage());
+            return;
+        }
+
+        synchronized (cache) {
+            // A preload and a decoder can both decode the same tile; keep the first, count it once
+            if (cache.containsKey(key)) return;
+
+            for (Stamp stamp : stamps) {
+                applyStamp(tile, key, stamp);
+            }
+            cachedBytes += SpriteCache.sizeOf(tile);
+            cache.put(key, tile);
+
+            // Evict least recently drawn tiles until back under budget (never the one just added)
+            Iterator<BufferedImage> eldest = cache.values().iterator();
+            while (cachedBytes > cacheBudgetBytes && cache.size() > 1) {
+                cachedBytes -= SpriteCache.sizeOf(eldest.next());
+                eldest.remove();
+            }
+        }
+        decodes.incrementAndGet();
+        decodeNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    // Inflates one tile straight from the mapped file into an ARGB image
+    private BufferedImage decode(long offset, int length, int w, int h) throws IOException {
+        ByteBuffer compressed = data.duplicate();
+        compressed.position((int) offset).limit((int) offset + length);
+
+        byte[] raw = new byte[w * h * 4];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, raw.length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != raw.length) {
+                throw new IOException("Truncated tile data");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt tile data", e);
+        } finally {
+            inflater.end();
+        }
+
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        ByteBuffer.wrap(raw).asIntBuffer().get(pixels);
+        return image;
+    }
+
+    // ========================================
+    // COORDINATES
+    // ========================================
+
+    // Finest level with no more pixels than a low-res frame shows: level L has 1/2^L of the
+    // resolution, so scale 1 -> 0, 2-3 -> 1, 4 -> 2
+    private int levelFor(int scale) {
+        int level = 0;
+        while (level + 1 < levelCount && (2 << level) <= scale) level++;
+        return level;
+    }
+
+    // Level pixel edge -> draw-size pixel edge (tile edges line up, no gaps between tiles)
+    private int destX(int level, int lx) { return (int) ((long) lx * width / levelWidth[level]); }
+    private int destY(int level, int ly) { return (int) ((long) ly * height / levelHeight[level]); }
+    private int levelX(int level, int x) { return (int) Math.floorDiv((long) x * levelWidth[level], width); }
+    private int levelY(int level, int y) { return (int) Math.floorDiv((long) y * levelHeight[level], height); }
+
+    private void forEachTile(int level, int x, int y, int w, int h, IntConsumer action) {
+        int cols = levelCols[level];
+        int col0 = Math.max(0, Math.floorDiv(levelX(level, x), tileSize));
+        int col1 = Math.min(cols - 1, Math.floorDiv(levelX(level, x + w - 1), tileSize));
+        int row0 = Math.max(0, Math.floorDiv(levelY(level, y), tileSize));
+        int row1 = Math.min(levelRows[level] - 1, Math.floorDiv(levelY(level, y + h - 1), tileSize));
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                action.accept(row * cols + col);
+            }
+        }
+    }
+
+    // ========================================
+    // GETTERS
+    // ========================================
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getTileCount() { return tileOffsets[0].length; }
+    public int getLastDrawnTiles() { return lastDrawnTiles; }
+    public int getLastFallbackTiles() { return lastFallbackTiles; }
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getDecodes() { return decodes.get(); }
+
+    public int getCachedTiles() {
+        synchronized (cache) { return cache.size(); }
+    }
+
+    // Decoded pixels held on the heap (cached tiles plus the coarse level); the mapped file is not heap
+    public long getResidentBytes() {
+        synchronized (cache) { return cachedBytes + SpriteCache.sizeOf(coarse); }
+    }
+
+    public String getStats() {
+        long n = decodes.get();
+        return String.format("%d/%d tiles cached, %.1f MB resident, %d decodes (%.2f ms avg), %d hits, %d fallback draws",
+            getCachedTiles(), getTileCount(), getResidentBytes() / (1024.0 * 1024.0), n,
+            n == 0 ? 0.0 : decodeNanos.get() / 1e6 / n, hits.get(), misses.get());
+    }
+}
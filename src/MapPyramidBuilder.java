@@ -0,0 +1,160 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import javax.imageio.ImageIO;
+
+public class MapPyramidBuilder {
+
+    // ========================================
+    // OFFLINE MAP PYRAMID BUILDER
+    // ========================================
+
+    // Converts the big map PNG into a tiled multi-level pyramid that MapPyramid memory-maps at runtime.
+    // Run from the project root whenever map_sprite.png changes (needs a large heap once, e.g. -Xmx3g):
+    //   java -Xmx3g MapPyramidBuilder [source.png] [output.pyramid] [tileSize]
+    //   defaults: resources/Map/map_sprite.png  resources/Map/map.pyramid  256
+    //
+    // File layout (big endian):
+    //   int magic, int version, int sourceWidth, int sourceHeight, int tileSize, int levelCount
+    //   per level: int width, int height, int cols, int rows
+    //   per level, per tile (row-major): long offset, int length     <- index
+    //   tile data: deflated ARGB ints (fast compression level, tiles decode in well under a millisecond)
+    // Level 0 is full resolution; each next level halves it until one tile covers the whole map.
+    static final int MAGIC = 0x554D5059; // "UMPY"
+    static final int VERSION = 1;
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        String sourcePath = args.length > 0 ? args[0] : "resources/Map/map_sprite.png";
+        String outputPath = args.length > 1 ? args[1] : "resources/Map/map.pyramid";
+        int tileSize = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        BufferedImage source = ImageIO.read(new File(sourcePath));
+        if (source == null) {
+            throw new IOException("Cannot read " + sourcePath);
+        }
+
+        // Build the levels (each one half the previous, area-averaged)
+        List<BufferedImage> levels = new ArrayList<>();
+        BufferedImage level = toArgb(source);
+        levels.add(level);
+        while (level.getWidth() > tileSize || level.getHeight() > tileSize) {
+            level = halve(level);
+            levels.add(level);
+        }
+
+        // Compress every tile; blobs stay in memory (small) so the index can be written first
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        List<byte[][]> blobs = new ArrayList<>();
+        for (BufferedImage img : levels) {
+            int cols = (img.getWidth() + tileSize - 1) / tileSize;
+            int rows = (img.getHeight() + tileSize - 1) / tileSize;
+            byte[][] tiles = new byte[cols * rows][];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int x = col * tileSize;
+                    int y = row * tileSize;
+                    int w = Math.min(tileSize, img.getWidth() - x);
+                    int h = Math.min(tileSize, img.getHeight() - y);
+                    tiles[row * cols + col] = compress(deflater, img.getRGB(x, y, w, h, null, 0, w));
+                }
+            }
+            blobs.add(tiles);
+        }
+        deflater.end();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(outputPath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(source.getWidth());
+            out.writeInt(source.getHeight());
+            out.writeInt(tileSize);
+            out.writeInt(levels.size());
+
+            int tileCount = 0;
+            for (int i = 0; i < levels.size(); i++) {
+                BufferedImage img = levels.get(i);
+                int cols = (img.getWidth() + tileSize - 1) / tileSize;
+                int rows = (img.getHeight() + tileSize - 1) / tileSize;
+                out.writeInt(img.getWidth());
+                out.writeInt(img.getHeight());
+                out.writeInt(cols);
+                out.writeInt(rows);
+                tileCount += cols * rows;
+            }
+
+            long offset = 6 * 4 + levels.size() * 4 * 4 + (long) tileCount * 12;
+            for (byte[][] tiles : blobs) {
+                for (byte[] tile : tiles) {
+                    out.writeLong(offset);
+                    out.writeInt(tile.length);
+                    offset += tile.length;
+                }
+            }
+            for (byte[][] tiles : blobs) {
+                for (byte[] tile : tiles) {
+                    out.write(tile);
+                }
+            }
+        }
+
+        System.out.println("Wrote " + outputPath + ": " + levels.size() + " levels, "
+            + new File(outputPath).length() / 1024 + " KB");
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private static byte[] compress(Deflater deflater, int[] argb) {
+        byte[] raw = new byte[argb.length * 4];
+        for (int i = 0; i < argb.length; i++) {
+            int p = argb[i];
+            raw[i * 4] = (byte) (p >>> 24);
+            raw[i * 4 + 1] = (byte) (p >>> 16);
+            raw[i * 4 + 2] = (byte) (p >>> 8);
+            raw[i * 4 + 3] = (byte) p;
+        }
+
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] buffer = new byte[Math.max(64, raw.length / 4)];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static BufferedImage toArgb(BufferedImage img) {
+        if (img.getType() == BufferedImage.TYPE_INT_ARGB) return img;
+        BufferedImage copy = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static BufferedImage halve(BufferedImage img) {
+        int w = Math.max(1, (img.getWidth() + 1) / 2);
+        int h = Math.max(1, (img.getHeight() + 1) / 2);
+        BufferedImage half = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = half.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(img, 0, 0, w, h, null);
+        g.dispose();
+        return half;
+    }
+}
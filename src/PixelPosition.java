@@ -8,9 +8,11 @@ public class PixelPosition extends MouseAdapter {
     private boolean clicked;
 
     private Camera gameCamera;
+    private DebugOverlay debug;
 
-    public PixelPosition(Camera camera) {
+    public PixelPosition(Camera camera, DebugOverlay debug) {
         this.gameCamera = camera;
+        this.debug = debug;
     }
     @Override
     public void mouseClicked(MouseEvent e) {
@@ -18,7 +20,9 @@ public class PixelPosition extends MouseAdapter {
         mouseY = e.getY() + gameCamera.getCameraY();
         clicked = true;
 
-        System.out.println("Pixel coordinates: X=" + mouseX + " & Y=" + mouseY);
+        if (debug.isOn(DebugOverlay.CLICKS)) {
+            System.out.println("Pixel coordinates: X=" + mouseX + " & Y=" + mouseY);
+        }
     }
 
     public int getMouseX() {
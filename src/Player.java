@@ -1,13 +1,10 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
-import javax.imageio.ImageIO;
 
 public class Player {
     
@@ -19,9 +16,12 @@ public class Player {
     private int craneY;
     private int spawnX;
     private int spawnY;
+    private int snapshotX = Integer.MIN_VALUE; // Position in the last render snapshot
+    private int snapshotY;
     private final int craneWidth = 192;
     private final int craneHeight = 192;
     private final float craneBaseSpeed = 1.5f;
+    private final boolean loadSprites;
     
     // ========================================
     // MOVEMENT & DIRECTION
@@ -48,6 +48,14 @@ public class Player {
     private final long autoRespawnDelay = 5000; // 5 seconds
     private boolean canManualRespawn = false;
     
+    // ========================================
+    // TIMING
+    // ========================================
+    
+    private long now = 0; // Tick time from the GameClock (ms), refreshed at the start of every update
+    private long lastManaRegenTime = 0;
+    private final long manaRegenInterval = 1000; // +1 mana per second
+    
     // ========================================
     // HITBOXES & COLLISION
     // ========================================
@@ -127,7 +135,6 @@ public class Player {
     private final long rangeAttackCooldownDuration = 1000; // 1 second
     private boolean projectileSpawnedThisAttack = false;
 
-    public final List<Projectile> projectiles = new CopyOnWriteArrayList<>();
     private final int projectileSpeed = 4;
     private final int projectileRange = 200;
     private final int rangeManaCost = 5;
@@ -153,6 +160,12 @@ public class Player {
     // ========================================
 
     public Player(int startX, int startY) {
+        this(startX, startY, true);
+    }
+
+    // loadSprites = false leaves every animation as empty frames (headless worlds)
+    public Player(int startX, int startY, boolean loadSprites) {
+        this.loadSprites = loadSprites;
         this.craneX = startX;
         this.craneY = startY;
         this.spawnX = startX;
@@ -220,12 +233,11 @@ public class Player {
         craneCurrentFrame = downMovement[3];
     }
     
+    // Frames come from the shared SpriteCache (decoded once per process)
     private BufferedImage[] loadAnimation(String basePath, int frameCount) throws IOException {
-        BufferedImage[] frames = new BufferedImage[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            String path = basePath + (i + 1) + ".png";
-            frames[i] = ImageIO.read(new File(path));
-        }
+        if (!loadSprites) return new BufferedImage[frameCount];
+        BufferedImage[] frames = SpriteCache.getAnimation(basePath, frameCount);
+        SpriteCache.prescale(frames, craneWidth, craneHeight);
         return frames;
     }
     
@@ -233,7 +245,10 @@ public class Player {
     // UPDATE METHODS
     // ========================================
     
-    public void update(KeyHandler keyH, Collision collision, int worldWidth, int worldHeight) {
+    public void update(KeyHandler keyH, Collision collision, ProjectileSystem projectiles, GameClock clock,
+                       int worldWidth, int worldHeight) {
+        now = clock.millis();
+        
         // Check if player is dead
         if (isDead) {
             updateDeathState(keyH);
@@ -245,15 +260,12 @@ public class Player {
             case "idle" -> updateIdle(keyH);
             case "moving" -> updateMovement(keyH, collision);
             case "isCraneMeleeAttacking" -> updateMeleeAttack(keyH);
-            case "isCraneRangeAttacking" -> updateRangeAttack(keyH);
+            case "isCraneRangeAttacking" -> updateRangeAttack(keyH, projectiles);
         }
         
         // Regenerate mana over time
         regenerateMana();
         
-        // Update all active projectiles
-        updateProjectiles(collision);
-        
         // Update attack cooldown timers
         updateCooldowns();
         
@@ -326,8 +338,8 @@ public class Player {
         }
     }
     
-    private void updateRangeAttack(KeyHandler keyH) {
-        updateRangeAttackAnimation();
+    private void updateRangeAttack(KeyHandler keyH, ProjectileSystem projectiles) {
+        updateRangeAttackAnimation(projectiles);
         
         if (!isRangeAttacking) {
             craneState = isMovingInput(keyH) ? "moving" : "idle";
@@ -339,8 +351,7 @@ public class Player {
     // ========================================
     
     private void updateDeathState(KeyHandler keyH) {
-        long currentTime = System.currentTimeMillis();
-        long timeSinceDeath = currentTime - deathTime;
+        long timeSinceDeath = now - deathTime;
         
         // Enable manual respawn after 1 second
         if (timeSinceDeath >= 1000) {
@@ -364,12 +375,11 @@ public class Player {
         if (isDead) return; // Already dead
         
         isDead = true;
-        deathTime = System.currentTimeMillis();
+        deathTime = now;
         canManualRespawn = false;
         craneState = "dead";
         
-        // Clear all active effects
-        projectiles.clear();
+        // Clear all active effects (player projectiles are cleared by GameWorld)
         breadcrumbs.clear();
         meleeHitbox = null;
         hitEnemiesThisAttack.clear();
@@ -415,7 +425,7 @@ public class Player {
     
     public long getRespawnTimeRemaining() {
         if (!isDead) return 0;
-        long timeSinceDeath = System.currentTimeMillis() - deathTime;
+        long timeSinceDeath = now - deathTime;
         long remaining = autoRespawnDelay - timeSinceDeath;
         return Math.max(remaining, 0);
     }
@@ -485,10 +495,7 @@ public class Player {
     }
     
     private void animate(BufferedImage[] frames) {
-        long now = System.nanoTime();
-        long intervalNanos = animationInterval * 1_000_000L;
-        
-        if (now - lastFrameTime >= intervalNanos) {
+        if (now - lastFrameTime >= animationInterval) {
             frameIndex = (frameIndex + 1) % frames.length;
             craneCurrentFrame = frames[frameIndex];
             lastFrameTime = now;
@@ -520,7 +527,7 @@ public class Player {
         meleeAttackFrameIndex = 0;
         meleeAttackFrameCounter = 0;
         craneState = "isCraneMeleeAttacking";
-        meleeLastAttackTime = System.currentTimeMillis();
+        meleeLastAttackTime = now;
         hitEnemiesThisAttack.clear();
         
         return true;
@@ -637,7 +644,7 @@ public class Player {
         rangeAttackFrameCounter = 0;
         craneState = "isCraneRangeAttacking";
         rangeAttackOnCooldown = true;
-        rangeLastAttackTime = System.currentTimeMillis();
+        rangeLastAttackTime = now;
         projectileSpawnedThisAttack = false;
 
         // Deduct mana cost
@@ -647,7 +654,7 @@ public class Player {
         return true;
     }
     
-    private void updateRangeAttackAnimation() {
+    private void updateRangeAttackAnimation(ProjectileSystem projectiles) {
         if (!isRangeAttacking) return;
         
         // Get animation frames for current direction
@@ -676,7 +683,7 @@ public class Player {
             
             // Spawn projectile at designated frame
             if (!projectileSpawnedThisAttack && rangeAttackFrameIndex == projectileSpawnFrame) {
-                spawnProjectile();
+                spawnProjectile(projectiles);
                 projectileSpawnedThisAttack = true;
             }
             
@@ -694,7 +701,7 @@ public class Player {
         craneCurrentFrame = attackFrames[rangeAttackFrameIndex];
     }
     
-    private void spawnProjectile() {
+    private void spawnProjectile(ProjectileSystem projectiles) {
         int centerX = craneX + craneWidth / 2;
         int centerY = craneY + craneHeight / 2;
         
@@ -720,19 +727,9 @@ public class Player {
             dirY /= len;
         }
         
-        // Create and add projectile to active list
-        Projectile p = new Projectile(centerX, centerY, dirX, dirY, projectileSpeed, projectileRange);
-        projectiles.add(p);
-    }
-    
-    private void updateProjectiles(Collision collision) {
-        // Update all projectiles
-        for (Projectile p : projectiles) {
-            p.update(collision);
-        }
-        
-        // Remove dead projectiles
-        projectiles.removeIf(p -> !p.alive);
+        // Add projectile to the shared pool
+        projectiles.spawn(ProjectileSystem.PLAYER, centerX, centerY, dirX, dirY,
+            projectileSpeed, projectileRange, craneRangeDamage);
     }
     
     // ========================================
@@ -757,8 +754,8 @@ public class Player {
     }
     
     private void regenerateMana() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime % 1000 < 17) { // Approximately once per second
+        if (now - lastManaRegenTime >= manaRegenInterval) {
+            lastManaRegenTime = now;
             if (craneCurrentMana < craneMaxMana) {
                 craneCurrentMana += 1;
             }
@@ -769,21 +766,11 @@ public class Player {
     // BREADCRUMB SYSTEM (for enemy AI)
     // ========================================
     
-    public void updateBreadcrumbs(List<Enemy> enemies) {
+    public void updateBreadcrumbs(boolean anyEnemyCanSeePlayer) {
         // Only create breadcrumbs when an enemy can see the player
-        boolean anyEnemyCanSeePlayer = false;
-        
-        for (Enemy en : enemies) {
-            if (en.canCurrentlySeePlayer()) {
-                anyEnemyCanSeePlayer = true;
-                break;
-            }
-        }
-        
         if (!anyEnemyCanSeePlayer) return;
         
         // Create breadcrumb at regular intervals
-        long now = System.currentTimeMillis();
         if (now - lastBreadcrumbTime >= breadcrumbSpacingMs) {
             breadcrumbs.add(new Point(craneBodyHitbox.x + 15, craneBodyHitbox.y));
             lastBreadcrumbTime = now;
@@ -804,7 +791,7 @@ public class Player {
     // ========================================
     
     private void updateCooldowns() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = now;
         
         // Update melee cooldown
         if (meleeAttackOnCooldown) {
@@ -823,14 +810,14 @@ public class Player {
     
     public long getMeleeAttackRemainingCooldown() {
         if (!meleeAttackOnCooldown) return 0;
-        long elapsed = System.currentTimeMillis() - meleeLastAttackTime;
+        long elapsed = now - meleeLastAttackTime;
         long remaining = meleeAttackCooldownDuration - elapsed;
         return Math.max(remaining, 0);
     }
     
     public long getRangeAttackRemainingCooldown() {
         if (!rangeAttackOnCooldown) return 0;
-        long elapsed = System.currentTimeMillis() - rangeLastAttackTime;
+        long elapsed = now - rangeLastAttackTime;
         long remaining = rangeAttackCooldownDuration - elapsed;
         return Math.max(remaining, 0);
     }
@@ -872,152 +859,35 @@ public class Player {
     // RENDERING
     // ========================================
     
-    public void draw(Graphics2D g, int camX, int camY) {
-        // Don't draw player if dead (optional: you can show a death sprite instead)
-        if (isDead) {
-            // Draw death overlay or skip drawing
-            drawDeathScreen(g, camX, camY);
-            return;
-        }
-        // Draw player sprite
-        if (craneCurrentFrame != null) {
-            g.drawImage(craneCurrentFrame, craneX - camX, craneY - camY, craneWidth, craneHeight, null);
-        }
-        
-        // Draw body hitbox (debug visualization)
-        g.setColor(Color.RED);
-        g.drawRect(craneBodyHitbox.x - camX, craneBodyHitbox.y - camY, craneBodyHitbox.width, craneBodyHitbox.height);
-        
-        // Draw front sensor (debug visualization)
-        g.setColor(Color.YELLOW);
-        g.drawRect(craneFrontSensor.x - camX, craneFrontSensor.y - camY, craneFrontSensor.width, craneFrontSensor.height);
-    }
-
-    private void drawDeathScreen(Graphics2D g, int camX, int camY) {
-        // Draw faded death sprite at death location
-        if (craneCurrentFrame != null) {
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-            g.drawImage(craneCurrentFrame, craneX - camX, craneY - camY, craneWidth, craneHeight, null);
-            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
-        }
-    }
-    
-    public void drawDeathUI(Graphics g, int screenWidth, int screenHeight) {
-        if (!isDead) return;
-        
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // Draw semi-transparent overlay
-        g2d.setColor(new Color(0, 0, 0, 150));
-        g2d.fillRect(0, 0, screenWidth, screenHeight);
-        
-        // Draw "YOU DIED" text
-        g2d.setColor(new Color(200, 0, 0));
-        g2d.setFont(new Font("Arial", Font.BOLD, 72));
-        String deathText = "YOU DIED";
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = (screenWidth - fm.stringWidth(deathText)) / 2;
-        int textY = screenHeight / 2 - 100;
-        g2d.drawString(deathText, textX, textY);
-        
-        // Draw respawn instructions
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 24));
-        
-        if (canManualRespawn) {
-            String respawnText = "Press R to Respawn";
-            fm = g2d.getFontMetrics();
-            textX = (screenWidth - fm.stringWidth(respawnText)) / 2;
-            textY = screenHeight / 2;
-            g2d.drawString(respawnText, textX, textY);
-        } else {
-            String waitText = "Please wait...";
-            fm = g2d.getFontMetrics();
-            textX = (screenWidth - fm.stringWidth(waitText)) / 2;
-            textY = screenHeight / 2;
-            g2d.drawString(waitText, textX, textY);
-        }
-        
-        // Draw auto-respawn timer
-        long remaining = getRespawnTimeRemaining();
-        if (remaining > 0) {
-            String timerText = "Auto-respawn in: " + (remaining / 1000 + 1) + "s";
-            g2d.setFont(new Font("Arial", Font.PLAIN, 20));
-            fm = g2d.getFontMetrics();
-            textX = (screenWidth - fm.stringWidth(timerText)) / 2;
-            textY = screenHeight / 2 + 50;
-            g2d.drawString(timerText, textX, textY);
-        }
-    }
-
-    public void drawHealthBar(Graphics g, int barX, int barY, int barWidth, int barHeight) {
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        int healthFillWidth = (int) ((double) craneCurrentHealth / craneMaxHealth * barWidth);
-        
-        // Draw max health background
-        g2d.setColor(new Color(80, 0, 0)); // Dark red background
-        g2d.fillRect(barX, barY, barWidth, barHeight);
-        
-        // Draw current health
-        g2d.setColor(new Color(220, 20, 20)); // Bright red foreground
-        g2d.fillRect(barX, barY, healthFillWidth, barHeight);
-        
-        // Draw border
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(barX, barY, barWidth, barHeight);
-        
-        // Draw health text (centered)
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
-        String healthText = craneCurrentHealth + " / " + craneMaxHealth;
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = barX + (barWidth - fm.stringWidth(healthText)) / 2;
-        int textY = barY + ((barHeight - fm.getHeight()) / 2) + fm.getAscent();
-        g2d.drawString(healthText, textX, textY);
-    }
-    
-    public void drawManaBar(Graphics g, int barX, int barY, int barWidth, int barHeight) {
-        Graphics2D g2d = (Graphics2D) g;
-        
-        int manaFillWidth = (int) ((double) craneCurrentMana / craneMaxMana * barWidth);
-        
-        // Draw max mana background
-        g2d.setColor(new Color(0, 0, 80)); // Dark blue background
-        g2d.fillRect(barX, barY, barWidth, barHeight);
-        
-        // Draw current mana
-        g2d.setColor(new Color(20, 120, 220)); // Bright blue foreground
-        g2d.fillRect(barX, barY, manaFillWidth, barHeight);
-        
-        // Draw border
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(barX, barY, barWidth, barHeight);
-        
-        // Draw mana text (centered)
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
-        String manaText = craneCurrentMana + " / " + craneMaxMana;
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = barX + (barWidth - fm.stringWidth(manaText)) / 2;
-        int textY = barY + ((barHeight - fm.getHeight()) / 2) + fm.getAscent();
-        g2d.drawString(manaText, textX, textY);
-    }
-    
-    public void drawBreadcrumbs(Graphics g, int camX, int camY) {
-        // Create safe copy to avoid ConcurrentModificationException
-        List<Point> safeCopy = new ArrayList<>(breadcrumbs);
-        
-        // Draw breadcrumb points
-        g.setColor(new Color(130, 92, 92)); // Brownish color for breadcrumbs
-        for (Point p : safeCopy) {
-            int drawX = p.x - camX;
-            int drawY = p.y - camY;
-            g.fillRect(drawX - 2, drawY - 2, 5, 5);
+    // Copies what a frame draws of the player (sprite, hitboxes, bars, death screen, trail) into the snapshot
+    public void writeSnapshot(RenderSnapshot s) {
+        // Position from the previous snapshot, for render interpolation
+        s.playerPrevX = snapshotX == Integer.MIN_VALUE ? craneX : snapshotX;
+        s.playerPrevY = snapshotX == Integer.MIN_VALUE ? craneY : snapshotY;
+        snapshotX = craneX;
+        snapshotY = craneY;
+        
+        s.playerX = craneX;
+        s.playerY = craneY;
+        s.playerWidth = craneWidth;
+        s.playerHeight = craneHeight;
+        s.playerFrame = craneCurrentFrame;
+        s.playerDead = isDead;
+        s.playerBody.setBounds(craneBodyHitbox);
+        s.playerSensor.setBounds(craneFrontSensor);
+        s.playerHealth = craneCurrentHealth;
+        s.playerMaxHealth = craneMaxHealth;
+        s.playerMana = craneCurrentMana;
+        s.playerMaxMana = craneMaxMana;
+        s.meleeCooldownRemaining = getMeleeAttackRemainingCooldown();
+        s.rangeCooldownRemaining = getRangeAttackRemainingCooldown();
+        s.canManualRespawn = canManualRespawn;
+        s.respawnRemaining = getRespawnTimeRemaining();
+        
+        s.breadcrumbCount = 0;
+        for (int i = 0; i < breadcrumbs.size(); i++) {
+            Point p = breadcrumbs.get(i);
+            s.addBreadcrumb(p.x, p.y);
         }
     }
     
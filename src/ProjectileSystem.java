@@ -0,0 +1,220 @@
+import java.awt.*;
+import java.util.Arrays;
+
+public class ProjectileSystem {
+
+    // ========================================
+    // FACTIONS
+    // ========================================
+
+    public static final int PLAYER = 0; // Hits enemies (drawn magenta)
+    public static final int ENEMY = 1;  // Hits the player (drawn red)
+
+    // ========================================
+    // STORAGE (structure of arrays)
+    // ========================================
+
+    // Every projectile is an 8x8 box, same as the old Projectile/EnemyProjectile classes
+    static final int SIZE = 8;
+
+    // Live projectiles are packed into [0, count). The tail [count, capacity) is the free list:
+    // spawning takes the first free slot and a dead projectile is filled by moving the last live one in.
+    private int count = 0;
+    private int[] x = new int[64];
+    private int[] y = new int[64];
+    private int[] stepX = new int[64];   // Per-tick movement (velocity rounded once at spawn)
+    private int[] stepY = new int[64];
+    private int[] originX = new int[64];
+    private int[] originY = new int[64];
+    private long[] maxRangeSq = new long[64];
+    private int[] damage = new int[64];
+    private byte[] faction = new byte[64];
+    private Object[] source = new Object[64]; // Who fired it (null for the player), see clearSource
+
+    // Reused for map collision queries
+    private final Rectangle probe = new Rectangle(0, 0, SIZE, SIZE);
+
+    // ========================================
+    // SPAWNING
+    // ========================================
+
+    // (startX, startY) is where the projectile is centered. The direction gets normalized here.
+    public void spawn(int owner, int startX, int startY, float dirX, float dirY, int speed, int maxRange, int hitDamage) {
+        spawn(owner, null, startX, startY, dirX, dirY, speed, maxRange, hitDamage);
+    }
+
+    // Same, remembering the shooter so its shots can be removed with clearSource
+    public void spawn(int owner, Object shooter, int startX, int startY, float dirX, float dirY,
+                      int speed, int maxRange, int hitDamage) {
+        if (count == x.length) {
+            grow();
+        }
+
+        float vx, vy;
+        float len = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (len == 0) { // fail-safe
+            vx = 0;
+            vy = speed;
+        } else {
+            vx = (dirX / len) * speed;
+            vy = (dirY / len) * speed;
+        }
+
+        int i = count++;
+        x[i] = startX - SIZE / 2;
+        y[i] = startY - SIZE / 2;
+        stepX[i] = Math.round(vx);
+        stepY[i] = Math.round(vy);
+        originX[i] = x[i];
+        originY[i] = y[i];
+        maxRangeSq[i] = (long) maxRange * maxRange;
+        damage[i] = hitDamage;
+        faction[i] = (byte) owner;
+        source[i] = shooter;
+    }
+
+    // ========================================
+    // UPDATE (move, collide and compact in one pass)
+    // ========================================
+
+    // enemyGrid must be up to date for this tick (GameWorld rebuilds it after moving enemies)
+    public void update(Collision collision, Player player, EnemyGrid enemyGrid, ScreenShake screenShake) {
+        Rectangle playerHitbox = player.getcraneBodyHitbox();
+
+        int i = 0;
+        while (i < count) {
+            if (step(i, collision, player, playerHitbox, enemyGrid, screenShake)) {
+                i++;
+            } else {
+                // Dead: fill the hole with the last live projectile and process that one next
+                removeAt(i);
+            }
+        }
+    }
+
+    // Advances projectile i by one tick. Returns false when it should be removed.
+    private boolean step(int i, Collision collision, Player player, Rectangle playerHitbox,
+                         EnemyGrid enemyGrid, ScreenShake screenShake) {
+        x[i] += stepX[i];
+        y[i] += stepY[i];
+
+        // Check collision with map
+        probe.setLocation(x[i], y[i]);
+        if (collision.checkCollision(probe)) {
+            return false;
+        }
+
+        // Check range exceeded
+        long dx = x[i] - originX[i];
+        long dy = y[i] - originY[i];
+        if (dx * dx + dy * dy >= maxRangeSq[i]) {
+            return false;
+        }
+
+        // Check hits against the opposing faction
+        if (faction[i] == PLAYER) {
+            // Broadphase lookup: only enemies bucketed around the projectile are tested
+            Enemy hit = enemyGrid.findFirstOverlap(x[i], y[i], SIZE, SIZE);
+            if (hit != null) {
+                hit.takeDamage(damage[i], screenShake);
+                return false; // Projectile can only hit one target
+            }
+        } else if (overlaps(i, playerHitbox)) {
+            player.cranetakeDamage(damage[i], screenShake);
+            return false;
+        }
+        return true;
+    }
+
+    // Removes every projectile of one faction (e.g. the player's shots when the player dies)
+    public void clear(int owner) {
+        int i = 0;
+        while (i < count) {
+            if (faction[i] == owner) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    // Removes every projectile one shooter fired (an enemy's shots when it respawns)
+    public void clearSource(Object shooter) {
+        int i = 0;
+        while (i < count) {
+            if (source[i] == shooter) {
+                removeAt(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // ========================================
+    // RENDERING
+    // ========================================
+
+    // Copies positions and owners into the frame snapshot (WorldRenderer draws them)
+    public void writeSnapshot(RenderSnapshot s) {
+        s.ensureProjectileCapacity(count);
+        System.arraycopy(x, 0, s.projectileX, 0, count);
+        System.arraycopy(y, 0, s.projectileY, 0, count);
+        System.arraycopy(faction, 0, s.projectileOwner, 0, count);
+        s.projectileCount = count;
+
+        // Straight-line motion, so last tick's position is one step back (none yet for a shot still at its origin)
+        for (int i = 0; i < count; i++) {
+            boolean atOrigin = x[i] == originX[i] && y[i] == originY[i];
+            s.projectilePrevX[i] = atOrigin ? x[i] : x[i] - stepX[i];
+            s.projectilePrevY[i] = atOrigin ? y[i] : y[i] - stepY[i];
+        }
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    // Same test as Rectangle.intersects, without building a Rectangle for the projectile
+    private boolean overlaps(int i, Rectangle r) {
+        if (r.width <= 0 || r.height <= 0) return false;
+        return x[i] < r.x + r.width && x[i] + SIZE > r.x
+            && y[i] < r.y + r.height && y[i] + SIZE > r.y;
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        Object shooter = source[last];
+        source[last] = null; // Free slots keep no enemy reachable
+        if (i == last) return;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        stepX[i] = stepX[last];
+        stepY[i] = stepY[last];
+        originX[i] = originX[last];
+        originY[i] = originY[last];
+        maxRangeSq[i] = maxRangeSq[last];
+        damage[i] = damage[last];
+        faction[i] = faction[last];
+        source[i] = shooter;
+    }
+
+    // Only allocates when the pool runs out of room
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        stepX = Arrays.copyOf(stepX, capacity);
+        stepY = Arrays.copyOf(stepY, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        maxRangeSq = Arrays.copyOf(maxRangeSq, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        faction = Arrays.copyOf(faction, capacity);
+        source = Arrays.copyOf(source, capacity);
+    }
+}
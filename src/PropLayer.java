@@ -0,0 +1,107 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+public class PropLayer {
+
+    // ========================================
+    // PROP PARTS
+    // ========================================
+
+    // Each prop is cut at the top of its collision box. Nobody can stand inside the box, so anything
+    // behind the prop has its feet above that line and never reaches the rows below it: that footprint
+    // part is only ever covered by things in front, exactly like the map, and is baked into the map
+    // images (bakeInto) so it costs nothing per frame. The part above the line is what can hide
+    // someone walking behind it, so it stays a depth-sorted draw command with the box bottom as depth.
+    // Entities sort by their feet (body hitbox bottom), so feet north of the box always go behind.
+    // Props without a collision box are baked whole.
+
+    // Standing parts (read by WorldRenderer every frame)
+    final int standingCount;
+    final BufferedImage[] standingImages;
+    final int[] standingX, standingY, standingWidth, standingHeight;
+    final int[] standingDepth;
+
+    // Footprint parts, in the map once baked; drawn as ground sprites when there is no map to bake into
+    final int groundCount;
+    final BufferedImage[] groundImages;
+    final int[] groundX, groundY;
+    private volatile boolean baked = false;
+
+    // sprites[i] belongs to props.get(i); a null sprite (failed to load) skips that prop
+    public PropLayer(List<GameWorld.StaticProp> props, List<BufferedImage> sprites) {
+        int n = props.size();
+        standingImages = new BufferedImage[n];
+        standingX = new int[n];
+        standingY = new int[n];
+        standingWidth = new int[n];
+        standingHeight = new int[n];
+        standingDepth = new int[n];
+        groundImages = new BufferedImage[n];
+        groundX = new int[n];
+        groundY = new int[n];
+
+        int standing = 0;
+        int ground = 0;
+        for (int i = 0; i < n; i++) {
+            GameWorld.StaticProp prop = props.get(i);
+            BufferedImage sprite = sprites.get(i);
+            if (sprite == null) continue;
+
+            Rectangle box = prop.collisionBox;
+            int split = box == null ? 0 : Math.max(0, Math.min(prop.height, box.y - prop.y));
+
+            if (split > 0) {
+                standingImages[standing] = cut(sprite, prop.width, prop.height, 0, split);
+                standingX[standing] = prop.x;
+                standingY[standing] = prop.y;
+                standingWidth[standing] = prop.width;
+                standingHeight[standing] = split;
+                standingDepth[standing] = box.y + box.height;
+                SpriteCache.prescale(standingImages[standing], prop.width, split);
+                standing++;
+            }
+            if (split < prop.height) {
+                groundImages[ground] = cut(sprite, prop.width, prop.height, split, prop.height - split);
+                groundX[ground] = prop.x;
+                groundY[ground] = prop.y + split;
+                SpriteCache.prescale(groundImages[ground], prop.width, prop.height - split);
+                ground++;
+            }
+        }
+        standingCount = standing;
+        groundCount = ground;
+    }
+
+    // Rows y .. y + rows of the sprite scaled to width x height, as its own compatible image
+    private static BufferedImage cut(BufferedImage sprite, int width, int height, int y, int rows) {
+        BufferedImage part = SpriteCache.createCompatibleImage(width, rows);
+        Graphics2D g = part.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(sprite, 0, -y, width, height, null);
+        g.dispose();
+        return part;
+    }
+
+    // ========================================
+    // BAKING (once, before the first frame)
+    // ========================================
+
+    public void bakeInto(MapPyramid pyramid) {
+        for (int i = 0; i < groundCount; i++) {
+            pyramid.bake(groundImages[i], groundX[i], groundY[i]);
+        }
+        baked = true;
+    }
+
+    public void bakeInto(MapChunks chunks) {
+        for (int i = 0; i < groundCount; i++) {
+            chunks.bake(groundImages[i], groundX[i], groundY[i]);
+        }
+        baked = true;
+    }
+
+    public boolean isBaked() { return baked; }
+    public int getStandingCount() { return standingCount; }
+    public int getGroundCount() { return groundCount; }
+}
@@ -0,0 +1,136 @@
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+public class RenderSnapshot {
+
+    // ========================================
+    // SNAPSHOT DATA
+    // ========================================
+
+    // Everything one frame draws, copied out of the simulation at the end of a tick (GamePanel.update).
+    // The renderer reads only this, never the live Player/Enemy/ProjectileSystem state, so the two
+    // threads never touch the same objects. Buffers are reused tick after tick and only grow.
+    // Fields are filled by the writeSnapshot methods of the simulation classes and read by WorldRenderer.
+    long tick;
+    boolean paused;
+
+    // Moving things carry their previous tick's position too, so a frame drawn between two ticks
+    // can interpolate (see alphaAt). The snapshot shows the tick that ended at publishedNanos.
+    long publishedNanos;
+    long tickRealNanos;         // Real time one tick takes at the current time scale
+
+    // Camera (already clamped to the world) and this tick's screen shake offset
+    int cameraX, cameraY;
+    int cameraPrevX, cameraPrevY;
+    int shakeX, shakeY;
+
+    // ========================================
+    // PLAYER
+    // ========================================
+
+    int playerX, playerY, playerWidth, playerHeight;
+    int playerPrevX, playerPrevY;
+    BufferedImage playerFrame;
+    boolean playerDead;
+    final Rectangle playerBody = new Rectangle();
+    final Rectangle playerSensor = new Rectangle();
+    int playerHealth, playerMaxHealth;
+    int playerMana, playerMaxMana;
+    long meleeCooldownRemaining, rangeCooldownRemaining;
+    boolean canManualRespawn;
+    long respawnRemaining;
+
+    // ========================================
+    // BREADCRUMBS
+    // ========================================
+
+    int breadcrumbCount;
+    int[] breadcrumbX = new int[64];
+    int[] breadcrumbY = new int[64];
+
+    // ========================================
+    // ENEMIES (alive ones only)
+    // ========================================
+
+    int enemyCount;
+    EnemyView[] enemies = new EnemyView[0];
+
+    public static class EnemyView {
+        int x, y;
+        int prevX, prevY;
+        int width, height;              // Base size (hitbox and bar layout)
+        int renderWidth, renderHeight;  // Sprite size (custom size when set)
+        BufferedImage frame;
+        String type;
+        boolean hideHealthBars;
+        int health, maxHealth;
+        int mana, maxMana;
+        final Rectangle body = new Rectangle();
+        final Rectangle patrol = new Rectangle();
+        boolean hasPatrol;
+        int sightRange;
+        int meleeRangeEnter, meleeRangeExit;
+        int rangeAttackRangeEnter, rangeAttackRangeExit;
+    }
+
+    // ========================================
+    // PROJECTILES
+    // ========================================
+
+    int projectileCount;
+    int[] projectileX = new int[256];
+    int[] projectileY = new int[256];
+    int[] projectilePrevX = new int[256];
+    int[] projectilePrevY = new int[256];
+    byte[] projectileOwner = new byte[256];
+
+    // ========================================
+    // INTERPOLATION
+    // ========================================
+
+    // How far (0..1) real time at nanos has moved from the previous tick toward this one.
+    // Frames are drawn one tick behind the simulation, blending prev -> current by this amount.
+    public double alphaAt(long nanos) {
+        if (paused || tickRealNanos <= 0) return 1.0;
+        double alpha = (nanos - publishedNanos) / (double) tickRealNanos;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    // ========================================
+    // WRITER HELPERS
+    // ========================================
+
+    void addBreadcrumb(int x, int y) {
+        if (breadcrumbCount == breadcrumbX.length) {
+            breadcrumbX = Arrays.copyOf(breadcrumbX, breadcrumbCount * 2);
+            breadcrumbY = Arrays.copyOf(breadcrumbY, breadcrumbCount * 2);
+        }
+        breadcrumbX[breadcrumbCount] = x;
+        breadcrumbY[breadcrumbCount] = y;
+        breadcrumbCount++;
+    }
+
+    // Next reusable enemy slot
+    EnemyView addEnemy() {
+        if (enemyCount == enemies.length) {
+            int oldLength = enemies.length;
+            enemies = Arrays.copyOf(enemies, Math.max(16, oldLength * 2));
+            for (int i = oldLength; i < enemies.length; i++) {
+                enemies[i] = new EnemyView();
+            }
+        }
+        return enemies[enemyCount++];
+    }
+
+    void ensureProjectileCapacity(int capacity) {
+        if (capacity > projectileX.length) {
+            int grown = Math.max(capacity, projectileX.length * 2);
+            projectileX = Arrays.copyOf(projectileX, grown);
+            projectileY = Arrays.copyOf(projectileY, grown);
+            projectilePrevX = Arrays.copyOf(projectilePrevX, grown);
+            projectilePrevY = Arrays.copyOf(projectilePrevY, grown);
+            projectileOwner = Arrays.copyOf(projectileOwner, grown);
+        }
+    }
+}
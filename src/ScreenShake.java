@@ -8,22 +8,29 @@ public class ScreenShake {
     private int currentOffsetX = 0;
     private int currentOffsetY = 0;
     private Random random = new Random();
+    private long now = 0; // Tick time from the GameClock (ms), refreshed by syncClock() and update()
+    
+    // Called at the start of each tick, so a shake started during the tick begins at this tick's time
+    public void syncClock(GameClock clock) {
+        now = clock.millis();
+    }
     
     public void start(long duration, int intensity) {
         this.isShaking = true;
-        this.shakeStartTime = System.currentTimeMillis();
+        this.shakeStartTime = now;
         this.shakeDuration = duration;
         this.shakeIntensity = intensity;
     }
     
-    public void update() {
+    public void update(GameClock clock) {
+        now = clock.millis();
+        
         if (!isShaking) {
             currentOffsetX = 0;
             currentOffsetY = 0;
             return;
         }
         
-        long now = System.currentTimeMillis();
         long elapsed = now - shakeStartTime;
         
         // Check if shake finished
@@ -0,0 +1,50 @@
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SnapshotBuffer {
+
+    // ========================================
+    // TRIPLE BUFFER
+    // ========================================
+
+    // Three snapshots: the simulation fills its back one, the renderer draws its front one, and the
+    // third sits in the middle as the latest finished tick. publish() and acquire() each swap with the
+    // middle slot through one atomic exchange, so neither side ever waits on the other or sees a
+    // half-written snapshot. If the renderer is slower it just skips ticks; if faster it redraws one.
+    private static final int FRESH = 4; // Set on the middle index when it holds a tick the reader hasn't taken
+
+    private final RenderSnapshot[] snapshots = {
+        new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;   // Writer (game thread) only
+    private int front = 2;  // Reader (render thread) only
+    private volatile boolean published = false;
+
+    // ========================================
+    // WRITER
+    // ========================================
+
+    // The snapshot to fill for the current tick
+    public RenderSnapshot back() {
+        return snapshots[back];
+    }
+
+    // Hands the filled back snapshot over as the latest one
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & ~FRESH;
+        published = true;
+    }
+
+    // ========================================
+    // READER
+    // ========================================
+
+    // Latest published snapshot (the previous one again if nothing new came in), null before the first
+    public RenderSnapshot acquire() {
+        if (!published) return null;
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & ~FRESH;
+        }
+        return snapshots[front];
+    }
+}
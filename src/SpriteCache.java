@@ -0,0 +1,312 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
+
+public class SpriteCache {
+
+    // ========================================
+    // CACHE STORAGE
+    // ========================================
+
+    // Process-wide flyweight store: every image path is decoded once and the same BufferedImage
+    // (and the same frame array per animation) is handed to every Player/Enemy that asks for it.
+    // Callers must treat returned images and arrays as read-only.
+    private static final ConcurrentHashMap<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, BufferedImage[]> animations = new ConcurrentHashMap<>();
+
+    // When disabled (headless processes) nothing is decoded: animations come back as empty frame arrays
+    // of the right length, because attack timing and spawn frames depend on the frame counts. Those
+    // arrays are never cached, so enabling it again later still loads the real frames.
+    private static volatile boolean enabled = true;
+
+    // ========================================
+    // ATLASES (packed by AtlasPacker)
+    // ========================================
+
+    // Frames found in resources/Atlas/*.atlas are cut out of their packed sheet instead of being read
+    // one file at a time. Anything not in an atlas (map, props) still loads from its own file.
+    private static final File ATLAS_DIR = new File("resources", "Atlas");
+    private static volatile Map<String, TextureAtlas> atlasByKey;
+
+    // ========================================
+    // PRE-SCALED COPIES (draw path)
+    // ========================================
+
+    // Every sprite is drawn bigger than its source (64 -> 192, dummy 16 -> 64, props ~3x). Scaling once
+    // into a compatible image turns each draw into a plain 1:1 blit. Keyed by source image identity,
+    // one size per frame and render scale. Loaders build the copies (prescale) so the render thread
+    // only looks them up; anything not prescaled is still copied on first draw.
+    private static final ConcurrentHashMap<BufferedImage, Scaled[]> scaledCache = new ConcurrentHashMap<>();
+    private static final AtomicLong scaledBytes = new AtomicLong();
+
+    // Render scales the renderer can draw at (see WorldRenderer.setRenderScale); a sprite drawn at
+    // w x h needs a (w/k) x (h/k) copy for each k
+    private static volatile int[] prescaleFactors = { 1 };
+
+    private static class Scaled {
+        final int width, height;
+        final BufferedImage image;
+
+        Scaled(int width, int height, BufferedImage image) {
+            this.width = width;
+            this.height = height;
+            this.image = image;
+        }
+    }
+
+    // Display format images can be blitted without conversion (null when headless)
+    private static GraphicsConfiguration graphicsConfig;
+    private static boolean graphicsConfigResolved = false;
+
+    // ========================================
+    // STATS
+    // ========================================
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong residentBytes = new AtomicLong();
+
+    private SpriteCache() {}
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    // Set before assets load; later prescale calls build copies for these render scales
+    public static void setPrescaleFactors(int... factors) {
+        prescaleFactors = factors.clone();
+    }
+
+    // ========================================
+    // LOOKUPS
+    // ========================================
+
+    // Single image, decoded on first request
+    public static BufferedImage getImage(String path) throws IOException {
+        BufferedImage image = images.get(path);
+        if (image != null) {
+            hits.incrementAndGet();
+            return image;
+        }
+
+        String key = TextureAtlas.normalizeKey(path);
+        TextureAtlas atlas = atlases().get(key);
+        if (atlas != null) {
+            // Sub-image view of the sheet; the sheet's memory is counted once in getResidentBytes
+            BufferedImage frame = atlas.getFrame(key);
+            BufferedImage previous = images.putIfAbsent(path, frame);
+            return previous != null ? previous : frame;
+        }
+
+        BufferedImage decoded = ImageIO.read(new File(path));
+        if (decoded == null) {
+            throw new IOException("Unsupported image format: " + path);
+        }
+        decoded = toCompatible(decoded);
+
+        // Two threads can race on the same path; only the first decode is kept and counted
+        BufferedImage previous = images.putIfAbsent(path, decoded);
+        if (previous != null) {
+            hits.incrementAndGet();
+            return previous;
+        }
+        misses.incrementAndGet();
+        residentBytes.addAndGet(sizeOf(decoded));
+        return decoded;
+    }
+
+    // Reads every atlas index once (the sheets themselves load lazily, on their first frame)
+    private static Map<String, TextureAtlas> atlases() {
+        Map<String, TextureAtlas> map = atlasByKey;
+        if (map != null) return map;
+
+        synchronized (SpriteCache.class) {
+            if (atlasByKey != null) return atlasByKey;
+
+            map = new HashMap<>();
+            File[] indexFiles = ATLAS_DIR.listFiles((dir, name) -> name.endsWith(".atlas"));
+            if (indexFiles != null) {
+                for (File indexFile : indexFiles) {
+                    try {
+                        TextureAtlas atlas = TextureAtlas.load(indexFile);
+                        for (String key : atlas.getKeys()) {
+                            map.put(key, atlas);
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Failed to read atlas " + indexFile + ": " + e.getMessage());
+                    }
+                }
+            }
+            atlasByKey = map;
+            return map;
+        }
+    }
+
+    // Frames basePath1.png .. basePath{frameCount}.png as one shared array
+    public static BufferedImage[] getAnimation(String basePath, int frameCount) throws IOException {
+        String key = basePath + "#" + frameCount;
+        BufferedImage[] frames = animations.get(key);
+        if (frames != null) {
+            hits.incrementAndGet();
+            return frames;
+        }
+
+        frames = new BufferedImage[frameCount];
+        if (!enabled) return frames;
+
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = getImage(basePath + (i + 1) + ".png");
+        }
+
+        BufferedImage[] previous = animations.putIfAbsent(key, frames);
+        return previous != null ? previous : frames;
+    }
+
+    // Builds the copies every frame needs when drawn at drawWidth x drawHeight, at every render scale
+    // (same sizes WorldRenderer asks getScaled for). Called from loader threads; null frames are skipped.
+    public static void prescale(BufferedImage[] frames, int drawWidth, int drawHeight) {
+        for (BufferedImage frame : frames) {
+            if (frame != null) prescale(frame, drawWidth, drawHeight);
+        }
+    }
+
+    public static void prescale(BufferedImage image, int drawWidth, int drawHeight) {
+        for (int scale : prescaleFactors) {
+            getScaled(image, Math.max(1, drawWidth / scale), Math.max(1, drawHeight / scale));
+        }
+    }
+
+    // Source image scaled to exactly width x height (nearest neighbour, same as a scaled drawImage)
+    public static BufferedImage getScaled(BufferedImage source, int width, int height) {
+        if (source.getWidth() == width && source.getHeight() == height) return source;
+
+        Scaled[] sizes = scaledCache.get(source);
+        if (sizes != null) {
+            for (Scaled scaled : sizes) {
+                if (scaled.width == width && scaled.height == height) return scaled.image;
+            }
+        }
+
+        BufferedImage image = createCompatibleImage(width, height);
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+
+        // Two loaders can scale the same shared frame at once; only the first copy is kept and counted
+        Scaled added = new Scaled(width, height, image);
+        sizes = scaledCache.merge(source, new Scaled[] { added }, (old, one) -> {
+            for (Scaled scaled : old) {
+                if (scaled.width == width && scaled.height == height) return old;
+            }
+            Scaled[] grown = Arrays.copyOf(old, old.length + 1);
+            grown[old.length] = added;
+            return grown;
+        });
+        for (Scaled scaled : sizes) {
+            if (scaled.width == width && scaled.height == height && scaled != added) return scaled.image;
+        }
+        scaledBytes.addAndGet(sizeOf(image));
+        return image;
+    }
+
+    // Copy in the display's translucent format, unless it already is one
+    public static BufferedImage toCompatible(BufferedImage source) {
+        GraphicsConfiguration gc = graphicsConfig();
+        if (gc != null && source.getColorModel().equals(gc.getColorModel(Transparency.TRANSLUCENT))) {
+            return source;
+        }
+        if (gc == null && source.getType() == BufferedImage.TYPE_INT_ARGB_PRE) {
+            return source;
+        }
+
+        BufferedImage copy = createCompatibleImage(source.getWidth(), source.getHeight());
+        Graphics2D g = copy.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    // Blank translucent image in the display format (also used for map chunks)
+    static BufferedImage createCompatibleImage(int width, int height) {
+        return createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    // Same for a given Transparency (OPAQUE for offscreen frames)
+    static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = graphicsConfig();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+            transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static synchronized GraphicsConfiguration graphicsConfig() {
+        if (!graphicsConfigResolved) {
+            graphicsConfigResolved = true;
+            if (!GraphicsEnvironment.isHeadless()) {
+                graphicsConfig = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            }
+        }
+        return graphicsConfig;
+    }
+
+    // ========================================
+    // STATS ACCESS
+    // ========================================
+
+    public static long getHits() { return hits.get(); }
+    public static int getImageCount() { return images.size(); }
+
+    // Files decoded so far: loose images plus atlas sheets
+    public static long getMisses() {
+        return misses.get() + loadedAtlases().size();
+    }
+
+    public static long getResidentBytes() {
+        long bytes = residentBytes.get() + scaledBytes.get();
+        for (TextureAtlas atlas : loadedAtlases()) {
+            bytes += atlas.getImageBytes();
+        }
+        return bytes;
+    }
+
+    public static String getStats() {
+        return String.format("%d images, %.1f MB resident, %d hits, %d decodes (%d atlas sheets)",
+            images.size(), getResidentBytes() / (1024.0 * 1024.0), hits.get(), getMisses(), loadedAtlases().size());
+    }
+
+    private static Set<TextureAtlas> loadedAtlases() {
+        Set<TextureAtlas> loaded = new HashSet<>();
+        Map<String, TextureAtlas> map = atlasByKey;
+        if (map != null) {
+            for (TextureAtlas atlas : map.values()) {
+                if (atlas.isLoaded()) loaded.add(atlas);
+            }
+        }
+        return loaded;
+    }
+
+    // Bytes held by the image's pixel data
+    static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+}
@@ -0,0 +1,117 @@
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+
+public class TextureAtlas {
+
+    // ========================================
+    // ATLAS DATA
+    // ========================================
+
+    // One packed sheet (written by AtlasPacker) plus the frame rectangles from its .atlas index.
+    // The index is read up front (small); the sheet itself is only decoded when a frame is first needed.
+    private final File imageFile;
+    private final Map<String, Rectangle> frames = new HashMap<>();
+    private volatile BufferedImage image;
+
+    // ========================================
+    // LOADING
+    // ========================================
+
+    // Index format: first line = sheet file name (next to the index),
+    // then one "<key> <x> <y> <width> <height>" line per frame. Lines starting with # are comments.
+    public static TextureAtlas load(File indexFile) throws IOException {
+        try (BufferedReader br = new BufferedReader(new FileReader(indexFile))) {
+            TextureAtlas atlas = null;
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                if (atlas == null) {
+                    atlas = new TextureAtlas(new File(indexFile.getParentFile(), line));
+                    continue;
+                }
+
+                String[] parts = line.split(" ");
+                if (parts.length != 5) {
+                    throw new IOException("Bad atlas entry in " + indexFile + ": " + line);
+                }
+                atlas.frames.put(parts[0], new Rectangle(
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4])));
+            }
+            if (atlas == null) {
+                throw new IOException("Empty atlas index: " + indexFile);
+            }
+            return atlas;
+        }
+    }
+
+    private TextureAtlas(File imageFile) {
+        this.imageFile = imageFile;
+    }
+
+    // ========================================
+    // LOOKUPS
+    // ========================================
+
+    // Frame as a sub-image view of the sheet (shares its pixels, no copy). Key = normalized path.
+    public BufferedImage getFrame(String key) throws IOException {
+        Rectangle r = frames.get(key);
+        if (r == null) return null;
+        return sheet().getSubimage(r.x, r.y, r.width, r.height);
+    }
+
+    public Set<String> getKeys() {
+        return frames.keySet();
+    }
+
+    public boolean isLoaded() {
+        return image != null;
+    }
+
+    // Bytes held by the decoded sheet (0 until it is loaded)
+    public long getImageBytes() {
+        BufferedImage sheet = image;
+        return sheet == null ? 0 : SpriteCache.sizeOf(sheet);
+    }
+
+    // One large sequential read instead of one per frame
+    private BufferedImage sheet() throws IOException {
+        BufferedImage sheet = image;
+        if (sheet == null) {
+            synchronized (this) {
+                sheet = image;
+                if (sheet == null) {
+                    sheet = ImageIO.read(imageFile);
+                    if (sheet == null) {
+                        throw new IOException("Unsupported image format: " + imageFile);
+                    }
+                    image = sheet = SpriteCache.toCompatible(sheet); // Frames inherit the sheet's format
+                }
+            }
+        }
+        return sheet;
+    }
+
+    // ========================================
+    // KEYS
+    // ========================================
+
+    // Resource paths in the code use Windows separators and mixed case ("resources\\Enemies\\...\\b_back1.png").
+    // Keys are relative to the resources folder, lower case, with "/" separators, so lookups work on any OS.
+    public static String normalizeKey(String path) {
+        String key = path.replace('\\', '/').toLowerCase();
+        while (key.startsWith("./")) key = key.substring(2);
+        if (key.startsWith("resources/")) key = key.substring("resources/".length());
+        return key;
+    }
+}
@@ -0,0 +1,532 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public class WorldRenderer {
+
+    // ========================================
+    // SCREEN SETTINGS
+    // ========================================
+
+    private final int screenWidth;
+    private final int screenHeight;
+    private final Color background;
+
+    // ========================================
+    // INTERNAL RESOLUTION
+    // ========================================
+
+    // At render scale k > 1 the world is drawn into a 1/k size offscreen image and blown up to the
+    // screen in one nearest-neighbor blit: k*k fewer pixels filled, pixel art stays blocky instead
+    // of blurry. The offscreen Graphics carries a 1/k transform so world drawing stays in screen
+    // units; sprites and map tiles use copies pre-shrunk by k, which that transform maps 1:1 onto
+    // the low-res frame (a plain blit, not a scaled one). The HUD and enemy bars/labels are drawn
+    // after the upscale at full resolution so text stays sharp.
+    private final int maxRenderScale = 4;          // 1080x720 -> 270x180
+    private final int maxAutoRenderScale = 3;      // Auto mode stops at 360x240
+    private int renderScale = 1;
+    private int frameScale = 1;                    // renderScale for the frame being drawn
+    private boolean autoRenderScale = false;
+    private BufferedImage lowResFrame;             // Recreated when the scale changes
+
+    // Auto mode: world draw time (incl. upscale) averaged over a window of frames against the frame
+    // budget. Above highLoad the scale goes up; it comes back down once the previous scale's
+    // estimated cost (k*k fill rule) would fit under lowLoad.
+    private long frameBudgetNanos = 1_000_000_000L / 60;
+    private final int scaleWindowFrames = 60;
+    private final double highLoad = 0.75;
+    private final double lowLoad = 0.40;
+    // Frames right after a switch build the new scale's sprite and map tile copies, so they are left
+    // out of the measurement; otherwise that one-off cost could push the scale straight up again.
+    private final int settleFrames = 30;
+    private long worldNanosSum = 0;
+    private int worldFrames = 0;
+    private int framesToSettle = 0;
+    private volatile int currentRenderScale = 1;
+    private volatile double lastRenderLoad = 0;   // Share of the frame budget in the last full window
+
+    // ========================================
+    // STATIC WORLD (set once while loading)
+    // ========================================
+
+    // Map, props and obstacle outlines never change after loading, so they are drawn straight
+    // from here. Everything that moves comes from the RenderSnapshot.
+    private volatile MapPyramid mapPyramid;
+    private volatile MapChunks mapChunks;
+    private volatile PropLayer props;
+    private volatile Collision collision;
+
+    // Hitboxes, patrol areas, ranges, obstacles, breadcrumbs, stats: see DebugOverlay
+    private final DebugOverlay debug;
+
+    // ========================================
+    // UI
+    // ========================================
+
+    // Bars and text are cached images, see HudLayer
+    private final HudLayer hud;
+
+    // ========================================
+    // SPRITES
+    // ========================================
+
+    // Player, enemies and props are submitted as draw commands and drawn back to front by their
+    // feet, so nobody is painted over by something standing behind them (see DrawList)
+    private final DrawList drawList = new DrawList();
+
+    // ========================================
+    // DEBUG SETTINGS
+    // ========================================
+
+    private static final Color BREADCRUMB_COLOR = new Color(130, 92, 92); // Brownish color for breadcrumbs
+    private static final Color PATROL_FILL = new Color(95, 255, 98, 60);  // Semi-transparent green
+    private static final Color PATROL_BORDER = new Color(95, 250, 98);    // Solid green border
+    private static final Color STATS_BACKGROUND = new Color(0, 0, 0, 160);
+    private static final Font STATS_FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private final int statsLineHeight = 15;
+
+    // ========================================
+    // INTERPOLATION
+    // ========================================
+
+    // Anything that moved further than this in one tick teleported (respawn) and is not blended
+    private final int snapDistance = 128;
+
+    // ========================================
+    // CULLING
+    // ========================================
+
+    // World rectangle under the screen this frame. Every object is tested against it before any
+    // Graphics call, so draw cost follows what is on screen rather than the entity count.
+    private final Rectangle view = new Rectangle();
+    private final int enemyLabelReach = 200; // Room for the "<type> HP: n" label left/right of the sprite
+
+    // Objects drawn / skipped by the last frame (render thread writes, anyone may read)
+    private int drawnObjects = 0;
+    private int culledObjects = 0;
+    private volatile int lastDrawnObjects = 0;
+    private volatile int lastCulledObjects = 0;
+
+    public WorldRenderer(int screenWidth, int screenHeight, Color background, DebugOverlay debug) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.background = background;
+        this.debug = debug;
+        this.hud = new HudLayer(screenWidth, screenHeight);
+    }
+
+    public void setMapPyramid(MapPyramid mapPyramid) { this.mapPyramid = mapPyramid; }
+    public void setMapChunks(MapChunks mapChunks) { this.mapChunks = mapChunks; }
+    public void setProps(PropLayer props) { this.props = props; }
+    public void setCollision(Collision collision) { this.collision = collision; }
+
+    // Fixed internal downscale (1 = native, up to maxRenderScale) or 0 for automatic from the frame budget.
+    // Call before assets load: loaders pre-scale sprites for every scale this renderer can pick.
+    public void setRenderScale(int scale, long frameBudgetNanos) {
+        this.autoRenderScale = scale == 0;
+        this.renderScale = autoRenderScale ? 1 : Math.max(1, Math.min(maxRenderScale, scale));
+        this.frameBudgetNanos = frameBudgetNanos;
+        this.currentRenderScale = renderScale;
+
+        int[] scales = new int[autoRenderScale ? maxAutoRenderScale : 1];
+        for (int i = 0; i < scales.length; i++) {
+            scales[i] = autoRenderScale ? i + 1 : renderScale;
+        }
+        SpriteCache.setPrescaleFactors(scales);
+    }
+
+    public int getRenderScale() { return currentRenderScale; }
+    public boolean isAutoRenderScale() { return autoRenderScale; }
+    public double getLastRenderLoad() { return lastRenderLoad; }
+
+    // ========================================
+    // RENDERING
+    // ========================================
+
+    // One full game frame from snapshot s (background already cleared). Positions are blended
+    // from the previous tick to this one by alpha (0..1, see RenderSnapshot.alphaAt).
+    public void render(Graphics2D g, RenderSnapshot s, double alpha) {
+        int scale = renderScale;
+        frameScale = scale;
+
+        // Apply screen shake offset to camera (the camera glides, so it is never snapped)
+        int camX = lerp(s.cameraPrevX, s.cameraX, alpha) + s.shakeX;
+        int camY = lerp(s.cameraPrevY, s.cameraY, alpha) + s.shakeY;
+        if (scale > 1) {
+            // Whole low-res pixels only, or tile edges and sprites shimmer as the camera moves
+            camX = Math.floorDiv(camX, scale) * scale;
+            camY = Math.floorDiv(camY, scale) * scale;
+        }
+        view.setBounds(camX, camY, screenWidth, screenHeight);
+        drawnObjects = 0;
+        culledObjects = 0;
+        int layers = debug.getActiveLayers();
+
+        long worldStart = System.nanoTime();
+        if (scale == 1) {
+            drawScene(g, s, camX, camY, alpha, layers);
+        } else {
+            BufferedImage frame = lowResFrame(scale);
+            Graphics2D lowRes = frame.createGraphics();
+            lowRes.setColor(background);
+            lowRes.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+            lowRes.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            lowRes.scale(1.0 / scale, 1.0 / scale);
+            drawScene(lowRes, s, camX, camY, alpha, layers);
+            lowRes.dispose();
+
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(frame, 0, 0, frame.getWidth() * scale, frame.getHeight() * scale, null);
+        }
+        if (autoRenderScale) {
+            adaptRenderScale(System.nanoTime() - worldStart);
+        }
+
+        // Full resolution from here on
+        drawEnemyHud(g, s, camX, camY, alpha);
+        if ((layers & DebugOverlay.STATS) != 0) {
+            drawDebugStats(g);
+        }
+
+        hud.drawUI(g, s);
+
+        // Draw death screen overlay (only shows when player is dead)
+        hud.drawDeathUI(g, s);
+
+        lastDrawnObjects = drawnObjects;
+        lastCulledObjects = culledObjects;
+    }
+
+    // Everything in world space, at whatever resolution g targets
+    private void drawScene(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha, int layers) {
+        // Ground, then everything that stands on it, depth sorted
+        drawWorld(g, camX, camY);
+        drawProjectiles(g, s, camX, camY, alpha);
+
+        drawList.clear();
+        submitEnemies(s, camX, camY, alpha);
+        submitPlayer(s, camX, camY, alpha);
+        submitProps(camX, camY);
+        drawList.sort();
+        drawList.draw(g);
+
+        // Debug layers on top of the world, one pass each (nothing at all when the overlay is off)
+        if (layers != 0) {
+            drawDebug(g, s, camX, camY, alpha, layers);
+        }
+    }
+
+    public int getLastDrawnObjects() { return lastDrawnObjects; }
+    public int getLastCulledObjects() { return lastCulledObjects; }
+    public DrawList getDrawList() { return drawList; }
+
+    private void drawWorld(Graphics2D g, int camX, int camY) {
+        // Only the tiles/chunks under the camera
+        MapPyramid pyramid = mapPyramid;
+        MapChunks chunks = mapChunks;
+        if (pyramid != null) {
+            pyramid.draw(g, camX, camY, screenWidth, screenHeight, frameScale);
+        } else if (chunks != null) {
+            chunks.draw(g, camX, camY, screenWidth, screenHeight, frameScale);
+        }
+    }
+
+    // Standing parts of the static props (their footprints are baked into the map, see PropLayer)
+    private void submitProps(int camX, int camY) {
+        PropLayer p = props;
+        if (p == null) return;
+
+        for (int i = 0; i < p.standingCount; i++) {
+            int x = p.standingX[i];
+            int y = p.standingY[i];
+            if (!visible(x, y, p.standingWidth[i], p.standingHeight[i])) continue;
+            submitSprite(p.standingImages[i], x - camX, y - camY, p.standingWidth[i], p.standingHeight[i],
+                DrawList.LAYER_ENTITIES, p.standingDepth[i], false);
+        }
+
+        // No map to bake into: footprints go under everything instead
+        if (p.isBaked()) return;
+        for (int i = 0; i < p.groundCount; i++) {
+            BufferedImage image = p.groundImages[i];
+            int x = p.groundX[i];
+            int y = p.groundY[i];
+            if (!visible(x, y, image.getWidth(), image.getHeight())) continue;
+            submitSprite(image, x - camX, y - camY, image.getWidth(), image.getHeight(),
+                DrawList.LAYER_GROUND, y + image.getHeight(), false);
+        }
+    }
+
+    // Magenta = player, red = enemy
+    private void drawProjectiles(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha) {
+        int lastOwner = -1;
+        for (int i = 0; i < s.projectileCount; i++) {
+            if (s.projectileOwner[i] != lastOwner) {
+                lastOwner = s.projectileOwner[i];
+                g.setColor(lastOwner == ProjectileSystem.PLAYER ? Color.MAGENTA : Color.RED);
+            }
+            int x = blend(s.projectilePrevX[i], s.projectileX[i], alpha);
+            int y = blend(s.projectilePrevY[i], s.projectileY[i], alpha);
+            if (!visible(x, y, ProjectileSystem.SIZE, ProjectileSystem.SIZE)) continue;
+            g.fillRect(x - camX, y - camY, ProjectileSystem.SIZE, ProjectileSystem.SIZE);
+        }
+    }
+
+    // ========================================
+    // PLAYER
+    // ========================================
+
+    // Faded where the player died
+    private void submitPlayer(RenderSnapshot s, int camX, int camY, double alpha) {
+        if (s.playerFrame == null) return;
+
+        int x = blend(s.playerPrevX, s.playerX, alpha);
+        int y = blend(s.playerPrevY, s.playerY, alpha);
+        submitSprite(s.playerFrame, x - camX, y - camY, s.playerWidth, s.playerHeight,
+            DrawList.LAYER_ENTITIES, feet(y, s.playerY, s.playerBody), s.playerDead);
+    }
+
+    // ========================================
+    // ENEMIES
+    // ========================================
+
+    private void submitEnemies(RenderSnapshot s, int camX, int camY, double alpha) {
+        for (int i = 0; i < s.enemyCount; i++) {
+            RenderSnapshot.EnemyView e = s.enemies[i];
+            int x = blend(e.prevX, e.x, alpha);
+            int y = blend(e.prevY, e.y, alpha);
+            if (e.frame == null || !visible(x, y, e.renderWidth, e.renderHeight)) continue;
+
+            submitSprite(e.frame, x - camX, y - camY, e.renderWidth, e.renderHeight,
+                DrawList.LAYER_ENTITIES, feet(y, e.y, e.body), false);
+        }
+    }
+
+    // Depth of an entity: the bottom of its body hitbox (its feet), not of its sprite, whose frame has
+    // empty space below the feet. Props sort by their collision box bottom the same way.
+    // drawY is the blended sprite y, spriteY / body the tick's sprite y and hitbox.
+    private static int feet(int drawY, int spriteY, Rectangle body) {
+        return drawY + (body.y + body.height - spriteY);
+    }
+
+    // Bars or "<type> HP: n" label per enemy, in screen pixels after the world (see drawEnemyBars)
+    private void drawEnemyHud(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha) {
+        int labelTop = 16;
+        for (int i = 0; i < s.enemyCount; i++) {
+            RenderSnapshot.EnemyView e = s.enemies[i];
+            int drawX = blend(e.prevX, e.x, alpha) - camX;
+            int drawY = blend(e.prevY, e.y, alpha) - camY;
+            // Culling stats already counted this enemy in submitEnemies
+            if (!overlapsView(drawX + camX - enemyLabelReach, drawY + camY - labelTop,
+                    Math.max(e.renderWidth, e.width) + enemyLabelReach * 2,
+                    Math.max(Math.max(e.renderHeight, e.height), 70) + labelTop)) continue;
+
+            // Draw health
+            if (e.hideHealthBars) {
+                hud.drawEnemyLabel(g, e, drawX, drawY);
+            } else {
+                hud.drawEnemyBars(g, e, drawX, drawY);
+            }
+        }
+    }
+
+    // ========================================
+    // DEBUG OVERLAY
+    // ========================================
+
+    // Each layer is one pass over its objects with one color, culled against the view object by
+    // object. Hitboxes and range circles move with their (interpolated) owner; patrol areas stay put.
+    private void drawDebug(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha, int layers) {
+        if ((layers & DebugOverlay.OBSTACLES) != 0) drawDebugObstacles(g, camX, camY);
+        if ((layers & DebugOverlay.BREADCRUMBS) != 0) drawDebugBreadcrumbs(g, s, camX, camY);
+        if ((layers & DebugOverlay.PATROL) != 0) drawDebugPatrols(g, s, camX, camY);
+        if ((layers & DebugOverlay.HITBOXES) != 0) drawDebugHitboxes(g, s, camX, camY, alpha);
+        if ((layers & DebugOverlay.RANGES) != 0) drawDebugRanges(g, s, camX, camY, alpha);
+    }
+
+    private void drawDebugObstacles(Graphics2D g, int camX, int camY) {
+        Collision obstacles = collision;
+        if (obstacles == null) return;
+
+        int drawn = obstacles.draw(g, camX, camY, view);
+        drawnObjects += drawn;
+        culledObjects += obstacles.getShapeCount() - drawn;
+    }
+
+    private void drawDebugBreadcrumbs(Graphics2D g, RenderSnapshot s, int camX, int camY) {
+        g.setColor(BREADCRUMB_COLOR);
+        for (int i = 0; i < s.breadcrumbCount; i++) {
+            if (!visible(s.breadcrumbX[i] - 2, s.breadcrumbY[i] - 2, 5, 5)) continue;
+            g.fillRect(s.breadcrumbX[i] - camX - 2, s.breadcrumbY[i] - camY - 2, 5, 5);
+        }
+    }
+
+    // All fills, then all borders (two color changes however many enemies there are)
+    private void drawDebugPatrols(Graphics2D g, RenderSnapshot s, int camX, int camY) {
+        g.setColor(PATROL_FILL);
+        for (int i = 0; i < s.enemyCount; i++) {
+            Rectangle patrol = s.enemies[i].patrol;
+            if (!s.enemies[i].hasPatrol || !visible(patrol.x, patrol.y, patrol.width + 1, patrol.height + 1)) continue;
+            g.fillRect(patrol.x - camX, patrol.y - camY, patrol.width, patrol.height);
+        }
+        g.setColor(PATROL_BORDER);
+        for (int i = 0; i < s.enemyCount; i++) {
+            Rectangle patrol = s.enemies[i].patrol;
+            if (!s.enemies[i].hasPatrol || !overlapsView(patrol.x, patrol.y, patrol.width + 1, patrol.height + 1)) continue;
+            g.drawRect(patrol.x - camX, patrol.y - camY, patrol.width, patrol.height);
+        }
+    }
+
+    // Red bodies (player and enemies), then the player's yellow front sensor
+    private void drawDebugHitboxes(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha) {
+        int playerOffsetX = blend(s.playerPrevX, s.playerX, alpha) - s.playerX;
+        int playerOffsetY = blend(s.playerPrevY, s.playerY, alpha) - s.playerY;
+
+        g.setColor(Color.RED);
+        if (!s.playerDead) {
+            drawDebugRect(g, s.playerBody, playerOffsetX, playerOffsetY, camX, camY);
+        }
+        for (int i = 0; i < s.enemyCount; i++) {
+            RenderSnapshot.EnemyView e = s.enemies[i];
+            drawDebugRect(g, e.body, blend(e.prevX, e.x, alpha) - e.x, blend(e.prevY, e.y, alpha) - e.y, camX, camY);
+        }
+
+        if (!s.playerDead) {
+            g.setColor(Color.YELLOW);
+            drawDebugRect(g, s.playerSensor, playerOffsetX, playerOffsetY, camX, camY);
+        }
+    }
+
+    private void drawDebugRect(Graphics2D g, Rectangle r, int offsetX, int offsetY, int camX, int camY) {
+        if (!visible(r.x + offsetX, r.y + offsetY, r.width + 1, r.height + 1)) return;
+        g.drawRect(r.x + offsetX - camX, r.y + offsetY - camY, r.width, r.height);
+    }
+
+    // Sight, melee enter/exit, range attack enter/exit around each enemy's center
+    private void drawDebugRanges(Graphics2D g, RenderSnapshot s, int camX, int camY, double alpha) {
+        g.setColor(Color.BLACK);
+        for (int i = 0; i < s.enemyCount; i++) {
+            RenderSnapshot.EnemyView e = s.enemies[i];
+            int centerX = blend(e.prevX, e.x, alpha) + e.width / 2;
+            int centerY = blend(e.prevY, e.y, alpha) + e.height / 2;
+            drawRangeCircle(g, centerX, centerY, e.sightRange, camX, camY);
+            drawRangeCircle(g, centerX, centerY, e.meleeRangeEnter, camX, camY);
+            drawRangeCircle(g, centerX, centerY, e.meleeRangeExit, camX, camY);
+            drawRangeCircle(g, centerX, centerY, e.rangeAttackRangeEnter, camX, camY);
+            drawRangeCircle(g, centerX, centerY, e.rangeAttackRangeExit, camX, camY);
+        }
+    }
+
+    // Outline only: skipped when its bounds miss the view, or when the whole view lies inside the circle
+    private void drawRangeCircle(Graphics2D g, int centerX, int centerY, int radius, int camX, int camY) {
+        long farX = Math.max(Math.abs((long) view.x - centerX), Math.abs((long) view.x + view.width - centerX));
+        long farY = Math.max(Math.abs((long) view.y - centerY), Math.abs((long) view.y + view.height - centerY));
+        boolean viewInside = farX * farX + farY * farY < (long) radius * radius;
+        if (!count(!viewInside && overlapsView(centerX - radius, centerY - radius, radius * 2 + 1, radius * 2 + 1))) return;
+
+        g.drawOval(centerX - radius - camX, centerY - radius - camY, radius * 2, radius * 2);
+    }
+
+    // Bottom-left text panel; the lines are rebuilt by the game loop about once per second
+    private void drawDebugStats(Graphics2D g) {
+        String[] lines = debug.getStatsLines();
+        if (lines.length == 0) return;
+
+        int top = screenHeight - 10 - lines.length * statsLineHeight;
+        g.setColor(STATS_BACKGROUND);
+        g.fillRect(0, top - 4, screenWidth, lines.length * statsLineHeight + 14);
+        g.setColor(Color.WHITE);
+        g.setFont(STATS_FONT);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], 10, top + (i + 1) * statsLineHeight - 3);
+        }
+    }
+
+    // ========================================
+    // RENDER SCALE HELPERS
+    // ========================================
+
+    // Sprite at width x height screen units, from a copy pre-scaled to what it covers on the frame
+    // (native: a 1:1 blit; low-res: 1/k the size, drawn k times larger through the 1/k transform).
+    // layer = DrawList layer, depth = world y the sprite stands at (feet / collision box bottom).
+    private void submitSprite(BufferedImage image, int x, int y, int width, int height, int layer, int depth, boolean faded) {
+        int scale = frameScale;
+        if (scale == 1) {
+            drawList.add(SpriteCache.getScaled(image, width, height), x, y, width, height,
+                layer, depth, faded);
+        } else {
+            int w = Math.max(1, width / scale);
+            int h = Math.max(1, height / scale);
+            drawList.add(SpriteCache.getScaled(image, w, h), x, y, w * scale, h * scale,
+                layer, depth, faded);
+        }
+    }
+
+    private BufferedImage lowResFrame(int scale) {
+        int width = (screenWidth + scale - 1) / scale;
+        int height = (screenHeight + scale - 1) / scale;
+        if (lowResFrame == null || lowResFrame.getWidth() != width || lowResFrame.getHeight() != height) {
+            lowResFrame = SpriteCache.createCompatibleImage(width, height, Transparency.OPAQUE);
+        }
+        return lowResFrame;
+    }
+
+    // Auto mode: one decision per window of frames
+    private void adaptRenderScale(long worldNanos) {
+        if (framesToSettle > 0) {
+            framesToSettle--;
+            return;
+        }
+        worldNanosSum += worldNanos;
+        if (++worldFrames < scaleWindowFrames) return;
+
+        double load = worldNanosSum / (double) worldFrames / frameBudgetNanos;
+        worldNanosSum = 0;
+        worldFrames = 0;
+        lastRenderLoad = load;
+
+        int scale = renderScale;
+        if (load > highLoad && scale < maxAutoRenderScale) {
+            scale++;
+        } else if (scale > 1) {
+            double ratio = (double) scale / (scale - 1);
+            if (load * ratio * ratio < lowLoad) scale--;
+        }
+        if (scale != renderScale) {
+            renderScale = scale;
+            currentRenderScale = scale;
+            framesToSettle = settleFrames;
+        }
+    }
+
+    // ========================================
+    // INTERPOLATION HELPERS
+    // ========================================
+
+    private static int lerp(int from, int to, double alpha) {
+        return (int) Math.round(from + (to - from) * alpha);
+    }
+
+    // lerp for entities: a jump bigger than snapDistance is a teleport and shows the new position
+    private int blend(int from, int to, double alpha) {
+        if (Math.abs(to - from) > snapDistance) return to;
+        return lerp(from, to, alpha);
+    }
+
+    // ========================================
+    // CULLING HELPERS
+    // ========================================
+
+    // True (and counted as drawn) when the world rectangle overlaps the view; otherwise counted as culled
+    private boolean visible(int x, int y, int width, int height) {
+        return count(overlapsView(x, y, width, height));
+    }
+
+    private boolean overlapsView(int x, int y, int width, int height) {
+        return x < view.x + view.width && x + width > view.x && y < view.y + view.height && y + height > view.y;
+    }
+
+    private boolean count(boolean shown) {
+        if (shown) drawnObjects++;
+        else culledObjects++;
+        return shown;
+    }
+}